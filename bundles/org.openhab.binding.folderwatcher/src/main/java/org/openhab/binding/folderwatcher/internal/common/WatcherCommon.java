@@ -17,7 +17,10 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
@@ -36,21 +39,35 @@ public class WatcherCommon {
         }
     }
 
-    public static List<String> initStorage(File file, String watchDir) throws IOException {
-        List<String> returnList = List.of();
+    public static Set<String> initStorage(File file, String watchDir) throws IOException {
+        Set<String> returnSet = new HashSet<>();
         List<String> currentFileListing = List.of();
         if (!file.exists()) {
             Files.createDirectories(file.toPath().getParent());
             initFile(file, watchDir);
         } else {
             currentFileListing = Files.readAllLines(file.toPath().toAbsolutePath());
-            if (currentFileListing.get(0).equals(watchDir)) {
-                returnList = currentFileListing;
+            if (!currentFileListing.isEmpty() && currentFileListing.get(0).equals(watchDir)) {
+                returnSet.addAll(currentFileListing);
             } else {
                 initFile(file, watchDir);
             }
         }
-        return returnList;
+        return returnSet;
+    }
+
+    /**
+     * Returns the files of the current listing which are not part of the previous listing, in the order of the
+     * current listing. The previous listing is a hashed set, so the lookup does not depend on its size.
+     */
+    public static List<String> findNewFiles(List<String> currentListing, Set<String> previousListing) {
+        List<String> newFiles = new ArrayList<>();
+        for (String file : currentListing) {
+            if (!previousListing.contains(file)) {
+                newFiles.add(file);
+            }
+        }
+        return newFiles;
     }
 
     public static void saveNewListing(List<String> newList, File listingFile) throws IOException {
@@ -25,4 +25,5 @@ public class LocalFolderWatcherConfiguration {
     public boolean listHiddenLocal;
     public int pollIntervalLocal;
     public boolean listRecursiveLocal;
+    public boolean watchEventsLocal;
 }
@@ -16,14 +16,25 @@ import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingCon
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -50,12 +61,15 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class LocalFolderWatcherHandler extends BaseThingHandler {
+    private static final long WATCH_EVENTS_INTERVAL_MS = 1000;
     private final Logger logger = LoggerFactory.getLogger(LocalFolderWatcherHandler.class);
     private LocalFolderWatcherConfiguration config = new LocalFolderWatcherConfiguration();
     private File currentLocalListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousLocalListing = new ArrayList<>();
+    private Set<String> previousLocalListing = new HashSet<>();
+    private @Nullable WatchService watchService;
+    private final Map<WatchKey, Path> watchedDirectories = new HashMap<>();
 
     public LocalFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -86,7 +100,20 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
             return;
         }
 
-        if (config.pollIntervalLocal > 0) {
+        if (config.watchEventsLocal) {
+            try {
+                startWatchService();
+            } catch (IOException e) {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                        "Can't watch local directory: " + e.getMessage());
+                return;
+            }
+            updateStatus(ThingStatus.ONLINE);
+            // files created while the thing was not running
+            scheduler.execute(this::refreshFolderInformation);
+            executionJob = scheduler.scheduleWithFixedDelay(this::processWatchEvents, WATCH_EVENTS_INTERVAL_MS,
+                    WATCH_EVENTS_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        } else if (config.pollIntervalLocal > 0) {
             updateStatus(ThingStatus.ONLINE);
             executionJob = scheduler.scheduleWithFixedDelay(this::refreshFolderInformation, config.pollIntervalLocal,
                     config.pollIntervalLocal, TimeUnit.SECONDS);
@@ -104,9 +131,99 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
             executionJob.cancel(true);
             this.executionJob = null;
         }
+        stopWatchService();
+    }
+
+    private synchronized void startWatchService() throws IOException {
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        this.watchService = watchService;
+        registerDirectory(watchService, Paths.get(config.localDir));
+    }
+
+    private synchronized void stopWatchService() {
+        WatchService watchService = this.watchService;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Can't close watch service: {}", e.getMessage());
+            }
+            this.watchService = null;
+        }
+        watchedDirectories.clear();
+    }
+
+    private void registerDirectory(WatchService watchService, Path dir) throws IOException {
+        WatchKey key = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE);
+        watchedDirectories.put(key, dir);
+        if (config.listRecursiveLocal) {
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(dir, Files::isDirectory)) {
+                for (Path child : children) {
+                    registerDirectory(watchService, child);
+                }
+            }
+        }
+    }
+
+    private synchronized void processWatchEvents() {
+        WatchService watchService = this.watchService;
+        if (watchService == null) {
+            return;
+        }
+        boolean overflow = false;
+        List<String> newFiles = new ArrayList<>();
+        try {
+            WatchKey key;
+            while ((key = watchService.poll()) != null) {
+                Path dir = watchedDirectories.get(key);
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                        overflow = true;
+                        continue;
+                    }
+                    Path path = dir.resolve((Path) event.context());
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        // deleted files are reported again when they are re-created, as with polling
+                        previousLocalListing.remove(path.toAbsolutePath().toString());
+                    } else if (Files.isDirectory(path)) {
+                        if (config.listRecursiveLocal) {
+                            registerDirectory(watchService, path);
+                            // files may have been created before the directory was registered
+                            overflow = true;
+                        }
+                    } else if (config.listHiddenLocal || !Files.isHidden(path)) {
+                        String file = path.toAbsolutePath().toString();
+                        if (previousLocalListing.add(file)) {
+                            newFiles.add(file);
+                        }
+                    }
+                }
+                if (!key.reset()) {
+                    watchedDirectories.remove(key);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            return;
+        } catch (IOException e) {
+            logger.debug("Error processing watch events: {}", e.getMessage());
+            overflow = true;
+        }
+        newFiles.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
+        try {
+            if (!newFiles.isEmpty()) {
+                WatcherCommon.saveNewListing(newFiles, currentLocalListingFile);
+            }
+        } catch (IOException e) {
+            logger.debug("File manipulation error: {}", e.getMessage());
+        }
+        if (overflow) {
+            // events were lost, fall back to a full listing
+            refreshFolderInformation();
+        }
     }
 
-    private void refreshFolderInformation() {
+    private synchronized void refreshFolderInformation() {
         final String rootDir = config.localDir;
         try {
             List<String> currentLocalListing = new ArrayList<>();
@@ -148,14 +265,13 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
                 }
             });
 
-            List<String> diffLocalListing = new ArrayList<>(currentLocalListing);
-            diffLocalListing.removeAll(previousLocalListing);
+            List<String> diffLocalListing = WatcherCommon.findNewFiles(currentLocalListing, previousLocalListing);
             diffLocalListing.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
 
             if (!diffLocalListing.isEmpty()) {
                 WatcherCommon.saveNewListing(diffLocalListing, currentLocalListingFile);
             }
-            previousLocalListing = new ArrayList<>(currentLocalListing);
+            previousLocalListing = new HashSet<>(currentLocalListing);
         } catch (IOException e) {
             logger.debug("File manipulation error: {}", e.getMessage());
         }
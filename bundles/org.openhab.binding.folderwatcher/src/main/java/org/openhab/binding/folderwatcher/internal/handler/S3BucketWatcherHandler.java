@@ -17,7 +17,9 @@ import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingCon
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -51,7 +53,7 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
     private File currentS3ListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
             + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousS3Listing = new ArrayList<>();
+    private Set<String> previousS3Listing = new HashSet<>();
     private HttpClientFactory httpClientFactory;
     private @Nullable S3Actions s3;
 
@@ -104,14 +106,13 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
         List<String> currentS3Listing = new ArrayList<>();
         try {
             currentS3Listing = s3.listBucket(config.s3Path);
-            List<String> difS3Listing = new ArrayList<>(currentS3Listing);
-            difS3Listing.removeAll(previousS3Listing);
+            List<String> difS3Listing = WatcherCommon.findNewFiles(currentS3Listing, previousS3Listing);
             difS3Listing.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
 
             if (!difS3Listing.isEmpty()) {
                 WatcherCommon.saveNewListing(difS3Listing, currentS3ListingFile);
             }
-            previousS3Listing = new ArrayList<>(currentS3Listing);
+            previousS3Listing = new HashSet<>(currentS3Listing);
         } catch (Exception e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Can't connect to the bucket");
             logger.debug("Can't connect to the bucket: {}", e.getMessage());
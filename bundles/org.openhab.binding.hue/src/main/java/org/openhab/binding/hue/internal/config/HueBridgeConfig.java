@@ -33,6 +33,7 @@ public class HueBridgeConfig {
     public @Nullable String userName;
     public int pollingInterval = 10;
     public int sensorPollingInterval = 500;
+    public boolean useEventStream = false;
 
     public int getPort() {
         Integer thePort = port;
@@ -102,10 +102,12 @@ public class HueBridge {
     private final Logger logger = LoggerFactory.getLogger(HueBridge.class);
 
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
+    private static final String EVENT_STREAM_PATH = "/eventstream/clip/v2";
 
     private final HttpClient httpClient;
     private final String ip;
     private final String baseUrl;
+    private final String eventStreamUrl;
     private @Nullable String username;
     private long timeout = TimeUnit.MILLISECONDS.convert(5, TimeUnit.SECONDS);
 
@@ -130,14 +132,18 @@ public class HueBridge {
         this.httpClient = httpClient;
         this.ip = ip;
         String baseUrl;
+        String eventStreamUrl;
         try {
             URI uri = new URI(protocol, null, ip, port, "/api", null, null);
             baseUrl = uri.toString();
+            eventStreamUrl = uri.resolve(EVENT_STREAM_PATH).toString();
         } catch (URISyntaxException e) {
             logger.error("exception during constructing URI protocol={}, host={}, port={}", protocol, ip, port, e);
             baseUrl = protocol + "://" + ip + ":" + port + "/api";
+            eventStreamUrl = protocol + "://" + ip + ":" + port + EVENT_STREAM_PATH;
         }
         this.baseUrl = baseUrl;
+        this.eventStreamUrl = eventStreamUrl;
         this.scheduler = scheduler;
     }
 
@@ -293,6 +299,45 @@ public class HueBridge {
         return sensors;
     }
 
+    /**
+     * Returns detailed information for the given sensor.
+     *
+     * @param sensorId id of the sensor
+     * @return detailed sensor information
+     * @throws UnauthorizedException thrown if the user no longer exists
+     * @throws EntityNotAvailableException thrown if a sensor with the given id doesn't exist
+     */
+    public FullSensor getSensor(String sensorId)
+            throws IOException, ApiException, ConfigurationException, CommunicationException {
+        requireAuthentication();
+
+        HueResult result = get(getRelativeURL("sensors/" + enc(sensorId)));
+
+        handleErrors(result);
+
+        if (result.body.isBlank()) {
+            throw new EmptyResponseException(
+                    "GET request 'sensors/" + enc(sensorId) + "' returned an unexpected empty reponse");
+        }
+
+        FullSensor sensor = safeFromJson(result.body, FullSensor.class);
+        sensor.setId(sensorId);
+        return sensor;
+    }
+
+    /**
+     * Creates an event stream receiving the changes of the resources of the bridge. The event stream is part of the
+     * API v2 and requires a HTTPS connection.
+     *
+     * @param listener the listener to notify about events
+     * @return the event stream, which has to be started
+     * @throws IllegalStateException thrown if not linked with the bridge
+     */
+    public HueEventStream createEventStream(HueEventListener listener) {
+        requireAuthentication();
+        return new HueEventStream(httpClient, eventStreamUrl, Objects.requireNonNull(username), listener);
+    }
+
     /**
      * Returns the last time a search for new lights was started.
      * If a search is currently running, the current time will be
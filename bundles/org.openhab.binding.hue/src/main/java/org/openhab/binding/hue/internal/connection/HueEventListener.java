@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link HueEventListener} is notified about the events received through a {@link HueEventStream}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public interface HueEventListener {
+
+    /**
+     * This method is called when the bridge accepted the event stream and starts sending events.
+     */
+    void onEventStreamConnected();
+
+    /**
+     * This method is called for every event message received from the bridge.
+     *
+     * @param resources the API v1 paths of the changed resources, e.g. {@code /lights/1} or {@code /sensors/5}
+     * @param structureChanged true if resources have been added or removed, false if they were only updated
+     */
+    void onResourcesChanged(Set<String> resources, boolean structureChanged);
+
+    /**
+     * This method is called when the event stream has been closed by the bridge or failed. It is not called when the
+     * stream has been stopped with {@link HueEventStream#stop()}.
+     *
+     * @param reason the reason why the stream has been closed, if known
+     */
+    void onEventStreamClosed(@Nullable String reason);
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * Receives the server-sent events of the CLIP API v2 event stream of a Hue Bridge.
+ *
+ * The bridge sends an event for every change of a resource. Resources which are also available in the API v1 carry
+ * their v1 path in the {@code id_v1} attribute, these paths are passed to the {@link HueEventListener}, so the
+ * changed resources can be refreshed through the API v1 used by the rest of the binding.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HueEventStream {
+
+    private static final String APPLICATION_KEY_HEADER = "hue-application-key";
+    private static final String EVENT_STREAM_CONTENT_TYPE = "text/event-stream";
+    private static final String DATA_FIELD = "data:";
+    private static final String EVENT_TYPE_UPDATE = "update";
+
+    // the bridge does not send keep-alive messages, a quiet stream is re-established after this time
+    private static final long IDLE_TIMEOUT_MINUTES = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(HueEventStream.class);
+
+    private final HttpClient httpClient;
+    private final String url;
+    private final String applicationKey;
+    private final HueEventListener listener;
+
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream(256);
+    private final StringBuilder data = new StringBuilder();
+
+    private @Nullable Request request;
+    private volatile boolean stopped;
+
+    /**
+     * @param httpClient instance of the Jetty shared client
+     * @param url the URL of the event stream of the bridge
+     * @param applicationKey the user name registered on the bridge
+     * @param listener the listener to notify about events
+     */
+    public HueEventStream(HttpClient httpClient, String url, String applicationKey, HueEventListener listener) {
+        this.httpClient = httpClient;
+        this.url = url;
+        this.applicationKey = applicationKey;
+        this.listener = listener;
+    }
+
+    /**
+     * Opens the event stream. Events are received asynchronously until the stream is closed by the bridge or
+     * {@link #stop()} is called.
+     */
+    public synchronized void start() {
+        logger.debug("Opening event stream {}", url);
+        stopped = false;
+        Request request = httpClient.newRequest(url).method(HttpMethod.GET)
+                .header(APPLICATION_KEY_HEADER, applicationKey).header(HttpHeader.ACCEPT, EVENT_STREAM_CONTENT_TYPE)
+                .idleTimeout(IDLE_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+        this.request = request;
+        request.send(new Response.Listener.Adapter() {
+            @Override
+            public void onHeaders(@Nullable Response response) {
+                if (response == null) {
+                    return;
+                }
+                if (response.getStatus() == HttpStatus.OK_200) {
+                    listener.onEventStreamConnected();
+                } else {
+                    response.abort(new IllegalStateException("HTTP status " + response.getStatus()));
+                }
+            }
+
+            @Override
+            public void onContent(@Nullable Response response, @Nullable ByteBuffer content) {
+                if (content != null && !stopped) {
+                    HueEventStream.this.onContent(content);
+                }
+            }
+
+            @Override
+            public void onComplete(@Nullable Result result) {
+                if (stopped) {
+                    return;
+                }
+                Throwable failure = result == null ? null : result.getFailure();
+                listener.onEventStreamClosed(failure == null ? null : failure.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Closes the event stream, the listener is not notified anymore.
+     */
+    public synchronized void stop() {
+        stopped = true;
+        Request request = this.request;
+        if (request != null) {
+            request.abort(new CancellationException("event stream stopped"));
+            this.request = null;
+        }
+    }
+
+    /**
+     * Processes a chunk of the stream. Lines and messages may be split across chunks.
+     *
+     * @param content the received bytes
+     */
+    synchronized void onContent(ByteBuffer content) {
+        while (content.hasRemaining()) {
+            byte b = content.get();
+            if (b == '\n') {
+                int length = line.size();
+                byte[] bytes = line.toByteArray();
+                if (length > 0 && bytes[length - 1] == '\r') {
+                    length--;
+                }
+                line.reset();
+                onLine(new String(bytes, 0, length, StandardCharsets.UTF_8));
+            } else {
+                line.write(b);
+            }
+        }
+    }
+
+    private void onLine(String text) {
+        if (text.isEmpty()) {
+            // an empty line terminates the message
+            if (data.length() > 0) {
+                String message = data.toString();
+                data.setLength(0);
+                onMessage(message);
+            }
+        } else if (text.startsWith(DATA_FIELD)) {
+            if (data.length() > 0) {
+                data.append('\n');
+            }
+            data.append(text.substring(DATA_FIELD.length()).stripLeading());
+        }
+        // comments (hello and keep-alive messages), event ids and other fields are not needed
+    }
+
+    private void onMessage(String message) {
+        logger.trace("Hue event: {}", message);
+        Set<String> resources = new LinkedHashSet<>();
+        boolean structureChanged = false;
+        try {
+            JsonElement root = JsonParser.parseString(message);
+            if (!root.isJsonArray()) {
+                return;
+            }
+            for (JsonElement eventElement : root.getAsJsonArray()) {
+                if (!eventElement.isJsonObject()) {
+                    continue;
+                }
+                JsonObject event = eventElement.getAsJsonObject();
+                boolean update = EVENT_TYPE_UPDATE.equals(getString(event, "type"));
+                JsonElement resourceElements = event.get("data");
+                if (resourceElements == null || !resourceElements.isJsonArray()) {
+                    continue;
+                }
+                for (JsonElement resourceElement : resourceElements.getAsJsonArray()) {
+                    String idV1 = resourceElement.isJsonObject() ? getString(resourceElement.getAsJsonObject(), "id_v1")
+                            : null;
+                    // resources which are only available in the API v2 cannot be mapped to things
+                    if (idV1 != null && !idV1.isEmpty()) {
+                        resources.add(idV1);
+                        structureChanged |= !update;
+                    }
+                }
+            }
+        } catch (JsonParseException | IllegalStateException e) {
+            logger.debug("Ignoring invalid event '{}': {}", message, e.getMessage());
+            return;
+        }
+        if (!resources.isEmpty()) {
+            listener.onResourcesChanged(resources, structureChanged);
+        }
+    }
+
+    private static @Nullable String getString(JsonObject object, String member) {
+        JsonElement element = object.get(member);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : null;
+    }
+}
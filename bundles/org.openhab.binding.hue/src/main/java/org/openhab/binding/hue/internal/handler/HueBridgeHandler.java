@@ -37,6 +37,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.hue.internal.config.HueBridgeConfig;
 import org.openhab.binding.hue.internal.connection.HueBridge;
+import org.openhab.binding.hue.internal.connection.HueEventListener;
+import org.openhab.binding.hue.internal.connection.HueEventStream;
 import org.openhab.binding.hue.internal.connection.HueTlsTrustManagerProvider;
 import org.openhab.binding.hue.internal.discovery.HueDeviceDiscoveryService;
 import org.openhab.binding.hue.internal.dto.ApiVersionUtils;
@@ -102,6 +104,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
 
     private static final long BYPASS_MIN_DURATION_BEFORE_CMD = 1500L;
     private static final long SCENE_POLLING_INTERVAL = TimeUnit.SECONDS.convert(10, TimeUnit.MINUTES);
+    private static final long EVENT_STREAM_START_DELAY = 5;
+    private static final long EVENT_STREAM_MIN_RETRY_DELAY = 10;
+    private static final long EVENT_STREAM_MAX_RETRY_DELAY = TimeUnit.SECONDS.convert(5, TimeUnit.MINUTES);
 
     private static final String DEVICE_TYPE = "openHAB";
 
@@ -201,44 +206,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private final Runnable sensorPollingRunnable = new PollingRunnable() {
         @Override
         protected void doConnectedRun() throws IOException, ApiException {
-            Map<String, FullSensor> lastSensorStateCopy = new HashMap<>(lastSensorStates);
-
-            final HueDeviceDiscoveryService discovery = discoveryService;
-
-            for (final FullSensor sensor : hueBridge.getSensors()) {
-                String sensorId = sensor.getId();
-
-                final SensorStatusListener sensorStatusListener = sensorStatusListeners.get(sensorId);
-                if (sensorStatusListener == null) {
-                    logger.trace("Hue sensor '{}' added.", sensorId);
-
-                    if (discovery != null && !lastSensorStateCopy.containsKey(sensorId)) {
-                        discovery.addSensorDiscovery(sensor);
-                    }
-
-                    lastSensorStates.put(sensorId, sensor);
-                } else {
-                    if (sensorStatusListener.onSensorStateChanged(sensor)) {
-                        lastSensorStates.put(sensorId, sensor);
-                    }
-                }
-                lastSensorStateCopy.remove(sensorId);
-            }
-
-            // Check for removed sensors
-            lastSensorStateCopy.forEach((sensorId, sensor) -> {
-                logger.trace("Hue sensor '{}' removed.", sensorId);
-                lastSensorStates.remove(sensorId);
-
-                final SensorStatusListener sensorStatusListener = sensorStatusListeners.get(sensorId);
-                if (sensorStatusListener != null) {
-                    sensorStatusListener.onSensorRemoved();
-                }
-
-                if (discovery != null && sensor != null) {
-                    discovery.removeSensorDiscovery(sensor);
-                }
-            });
+            updateSensors();
         }
     };
 
@@ -252,162 +220,34 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                 lastScenesRetrieval = Instant.now();
             }
         }
+    };
 
-        private void updateLights() throws IOException, ApiException {
-            Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
-
-            List<FullLight> lights;
-            if (ApiVersionUtils.supportsFullLights(hueBridge.getVersion())) {
-                lights = hueBridge.getFullLights();
-            } else {
-                lights = hueBridge.getFullConfig().getLights();
-            }
-
-            final HueDeviceDiscoveryService discovery = discoveryService;
-
-            for (final FullLight fullLight : lights) {
-                final String lightId = fullLight.getId();
-
-                final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
-                if (lightStatusListener == null) {
-                    logger.trace("Hue light '{}' added.", lightId);
-
-                    if (discovery != null && !lastLightStateCopy.containsKey(lightId)) {
-                        discovery.addLightDiscovery(fullLight);
-                    }
-
-                    lastLightStates.put(lightId, fullLight);
-                } else {
-                    if (lightStatusListener.onLightStateChanged(fullLight)) {
-                        lastLightStates.put(lightId, fullLight);
-                    }
-                }
-                lastLightStateCopy.remove(lightId);
-            }
-
-            // Check for removed lights
-            lastLightStateCopy.forEach((lightId, light) -> {
-                logger.trace("Hue light '{}' removed.", lightId);
-                lastLightStates.remove(lightId);
-
-                final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
-                if (lightStatusListener != null) {
-                    lightStatusListener.onLightRemoved();
-                }
-
-                if (discovery != null && light != null) {
-                    discovery.removeLightDiscovery(light);
-                }
-            });
+    private final Runnable refreshAllRunnable = new PollingRunnable() {
+        @Override
+        protected void doConnectedRun() throws IOException, ApiException {
+            refreshAll();
         }
+    };
 
-        private void updateGroups() throws IOException, ApiException {
-            Map<String, FullGroup> lastGroupStateCopy = new HashMap<>(lastGroupStates);
-
-            List<FullGroup> groups = hueBridge.getGroups();
-
-            final HueDeviceDiscoveryService discovery = discoveryService;
-
-            for (final FullGroup fullGroup : groups) {
-                State groupState = new State();
-                boolean on = false;
-                int sumBri = 0;
-                int nbBri = 0;
-                State colorRef = null;
-                HSBType firstColorHsb = null;
-                for (String lightId : fullGroup.getLightIds()) {
-                    FullLight light = lastLightStates.get(lightId);
-                    if (light != null) {
-                        final State lightState = light.getState();
-                        logger.trace("Group {}: light {}: on {} bri {} hue {} sat {} temp {} mode {} XY {}",
-                                fullGroup.getName(), light.getName(), lightState.isOn(), lightState.getBrightness(),
-                                lightState.getHue(), lightState.getSaturation(), lightState.getColorTemperature(),
-                                lightState.getColorMode(), lightState.getXY());
-                        if (lightState.isOn()) {
-                            on = true;
-                            sumBri += lightState.getBrightness();
-                            nbBri++;
-                            if (lightState.getColorMode() != null) {
-                                HSBType lightHsb = LightStateConverter.toHSBType(lightState);
-                                if (firstColorHsb == null) {
-                                    // first color light
-                                    firstColorHsb = lightHsb;
-                                    colorRef = lightState;
-                                } else if (!lightHsb.equals(firstColorHsb)) {
-                                    colorRef = null;
-                                }
-                            }
-                        }
-                    }
-                }
-                groupState.setOn(on);
-                groupState.setBri(nbBri == 0 ? 0 : sumBri / nbBri);
-                if (colorRef != null) {
-                    groupState.setColormode(colorRef.getColorMode());
-                    groupState.setHue(colorRef.getHue());
-                    groupState.setSaturation(colorRef.getSaturation());
-                    groupState.setColorTemperature(colorRef.getColorTemperature());
-                    groupState.setXY(colorRef.getXY());
-                }
-                fullGroup.setState(groupState);
-                logger.trace("Group {} ({}): on {} bri {} hue {} sat {} temp {} mode {} XY {}", fullGroup.getName(),
-                        fullGroup.getType(), groupState.isOn(), groupState.getBrightness(), groupState.getHue(),
-                        groupState.getSaturation(), groupState.getColorTemperature(), groupState.getColorMode(),
-                        groupState.getXY());
-
-                String groupId = fullGroup.getId();
-
-                final GroupStatusListener groupStatusListener = groupStatusListeners.get(groupId);
-                if (groupStatusListener == null) {
-                    logger.trace("Hue group '{}' ({}) added (nb lights {}).", groupId, fullGroup.getName(),
-                            fullGroup.getLightIds().size());
-
-                    if (discovery != null && !lastGroupStateCopy.containsKey(groupId)) {
-                        discovery.addGroupDiscovery(fullGroup);
-                    }
-
-                    lastGroupStates.put(groupId, fullGroup);
-                } else {
-                    if (groupStatusListener.onGroupStateChanged(fullGroup)) {
-                        lastGroupStates.put(groupId, fullGroup);
-                    }
-                }
-                lastGroupStateCopy.remove(groupId);
-            }
-
-            // Check for removed groups
-            lastGroupStateCopy.forEach((groupId, group) -> {
-                logger.trace("Hue group '{}' removed.", groupId);
-                lastGroupStates.remove(groupId);
-
-                final GroupStatusListener groupStatusListener = groupStatusListeners.get(groupId);
-                if (groupStatusListener != null) {
-                    groupStatusListener.onGroupRemoved();
-                }
+    private final HueEventListener eventListener = new HueEventListener() {
+        @Override
+        public void onEventStreamConnected() {
+            switchToEventStream();
+        }
 
-                if (discovery != null && group != null) {
-                    discovery.removeGroupDiscovery(group);
+        @Override
+        public void onResourcesChanged(Set<String> resources, boolean structureChanged) {
+            scheduler.execute(new PollingRunnable() {
+                @Override
+                protected void doConnectedRun() throws IOException, ApiException {
+                    applyEvent(resources, structureChanged);
                 }
             });
         }
 
-        private void updateScenes() throws IOException, ApiException {
-            lastScenes = hueBridge.getScenes();
-            logger.trace("Scenes detected: {}", lastScenes);
-
-            setBridgeSceneChannelStateOptions(lastScenes, lastGroupStates);
-            notifyGroupSceneUpdate(lastScenes);
-        }
-
-        private void setBridgeSceneChannelStateOptions(List<Scene> scenes, Map<String, FullGroup> groups) {
-            Map<String, String> groupNames = groups.entrySet().stream()
-                    .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getName()));
-            List<StateOption> stateOptions = scenes.stream().map(scene -> scene.toStateOption(groupNames))
-                    .collect(Collectors.toList());
-            stateDescriptionOptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), CHANNEL_SCENE),
-                    stateOptions);
-            consoleScenesList = scenes.stream().map(scene -> "Id is \"" + scene.getId() + "\" for scene \""
-                    + scene.toStateOption(groupNames).getLabel() + "\"").collect(Collectors.toList());
+        @Override
+        public void onEventStreamClosed(@Nullable String reason) {
+            switchToPolling(reason);
         }
     };
 
@@ -418,6 +258,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private @Nullable Future<?> initJob;
     private @Nullable ScheduledFuture<?> lightPollingJob;
     private @Nullable ScheduledFuture<?> sensorPollingJob;
+    private @Nullable ScheduledFuture<?> eventStreamJob;
+    private @Nullable HueEventStream eventStream;
+    private long eventStreamRetryDelay = EVENT_STREAM_MIN_RETRY_DELAY;
 
     private @NonNullByDefault({}) HueBridge hueBridge = null;
     private @NonNullByDefault({}) HueBridgeConfig hueBridgeConfig = null;
@@ -611,6 +454,298 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         }
     }
 
+    private void updateLights() throws IOException, ApiException {
+        Map<String, FullLight> lastLightStateCopy = new HashMap<>(lastLightStates);
+
+        List<FullLight> lights;
+        if (ApiVersionUtils.supportsFullLights(hueBridge.getVersion())) {
+            lights = hueBridge.getFullLights();
+        } else {
+            lights = hueBridge.getFullConfig().getLights();
+        }
+
+        final HueDeviceDiscoveryService discovery = discoveryService;
+
+        for (final FullLight fullLight : lights) {
+            final String lightId = fullLight.getId();
+
+            final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
+            if (lightStatusListener == null) {
+                logger.trace("Hue light '{}' added.", lightId);
+
+                if (discovery != null && !lastLightStateCopy.containsKey(lightId)) {
+                    discovery.addLightDiscovery(fullLight);
+                }
+
+                lastLightStates.put(lightId, fullLight);
+            } else {
+                if (lightStatusListener.onLightStateChanged(fullLight)) {
+                    lastLightStates.put(lightId, fullLight);
+                }
+            }
+            lastLightStateCopy.remove(lightId);
+        }
+
+        // Check for removed lights
+        lastLightStateCopy.forEach((lightId, light) -> {
+            logger.trace("Hue light '{}' removed.", lightId);
+            lastLightStates.remove(lightId);
+
+            final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
+            if (lightStatusListener != null) {
+                lightStatusListener.onLightRemoved();
+            }
+
+            if (discovery != null && light != null) {
+                discovery.removeLightDiscovery(light);
+            }
+        });
+    }
+
+    private void updateGroups() throws IOException, ApiException {
+        Map<String, FullGroup> lastGroupStateCopy = new HashMap<>(lastGroupStates);
+
+        List<FullGroup> groups = hueBridge.getGroups();
+
+        final HueDeviceDiscoveryService discovery = discoveryService;
+
+        for (final FullGroup fullGroup : groups) {
+            State groupState = new State();
+            boolean on = false;
+            int sumBri = 0;
+            int nbBri = 0;
+            State colorRef = null;
+            HSBType firstColorHsb = null;
+            for (String lightId : fullGroup.getLightIds()) {
+                FullLight light = lastLightStates.get(lightId);
+                if (light != null) {
+                    final State lightState = light.getState();
+                    logger.trace("Group {}: light {}: on {} bri {} hue {} sat {} temp {} mode {} XY {}",
+                            fullGroup.getName(), light.getName(), lightState.isOn(), lightState.getBrightness(),
+                            lightState.getHue(), lightState.getSaturation(), lightState.getColorTemperature(),
+                            lightState.getColorMode(), lightState.getXY());
+                    if (lightState.isOn()) {
+                        on = true;
+                        sumBri += lightState.getBrightness();
+                        nbBri++;
+                        if (lightState.getColorMode() != null) {
+                            HSBType lightHsb = LightStateConverter.toHSBType(lightState);
+                            if (firstColorHsb == null) {
+                                // first color light
+                                firstColorHsb = lightHsb;
+                                colorRef = lightState;
+                            } else if (!lightHsb.equals(firstColorHsb)) {
+                                colorRef = null;
+                            }
+                        }
+                    }
+                }
+            }
+            groupState.setOn(on);
+            groupState.setBri(nbBri == 0 ? 0 : sumBri / nbBri);
+            if (colorRef != null) {
+                groupState.setColormode(colorRef.getColorMode());
+                groupState.setHue(colorRef.getHue());
+                groupState.setSaturation(colorRef.getSaturation());
+                groupState.setColorTemperature(colorRef.getColorTemperature());
+                groupState.setXY(colorRef.getXY());
+            }
+            fullGroup.setState(groupState);
+            logger.trace("Group {} ({}): on {} bri {} hue {} sat {} temp {} mode {} XY {}", fullGroup.getName(),
+                    fullGroup.getType(), groupState.isOn(), groupState.getBrightness(), groupState.getHue(),
+                    groupState.getSaturation(), groupState.getColorTemperature(), groupState.getColorMode(),
+                    groupState.getXY());
+
+            String groupId = fullGroup.getId();
+
+            final GroupStatusListener groupStatusListener = groupStatusListeners.get(groupId);
+            if (groupStatusListener == null) {
+                logger.trace("Hue group '{}' ({}) added (nb lights {}).", groupId, fullGroup.getName(),
+                        fullGroup.getLightIds().size());
+
+                if (discovery != null && !lastGroupStateCopy.containsKey(groupId)) {
+                    discovery.addGroupDiscovery(fullGroup);
+                }
+
+                lastGroupStates.put(groupId, fullGroup);
+            } else {
+                if (groupStatusListener.onGroupStateChanged(fullGroup)) {
+                    lastGroupStates.put(groupId, fullGroup);
+                }
+            }
+            lastGroupStateCopy.remove(groupId);
+        }
+
+        // Check for removed groups
+        lastGroupStateCopy.forEach((groupId, group) -> {
+            logger.trace("Hue group '{}' removed.", groupId);
+            lastGroupStates.remove(groupId);
+
+            final GroupStatusListener groupStatusListener = groupStatusListeners.get(groupId);
+            if (groupStatusListener != null) {
+                groupStatusListener.onGroupRemoved();
+            }
+
+            if (discovery != null && group != null) {
+                discovery.removeGroupDiscovery(group);
+            }
+        });
+    }
+
+    private void updateScenes() throws IOException, ApiException {
+        lastScenes = hueBridge.getScenes();
+        logger.trace("Scenes detected: {}", lastScenes);
+
+        setBridgeSceneChannelStateOptions(lastScenes, lastGroupStates);
+        notifyGroupSceneUpdate(lastScenes);
+    }
+
+    private void setBridgeSceneChannelStateOptions(List<Scene> scenes, Map<String, FullGroup> groups) {
+        Map<String, String> groupNames = groups.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().getName()));
+        List<StateOption> stateOptions = scenes.stream().map(scene -> scene.toStateOption(groupNames))
+                .collect(Collectors.toList());
+        stateDescriptionOptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), CHANNEL_SCENE),
+                stateOptions);
+        consoleScenesList = scenes.stream().map(scene -> "Id is \"" + scene.getId() + "\" for scene \""
+                + scene.toStateOption(groupNames).getLabel() + "\"").collect(Collectors.toList());
+    }
+
+    private void updateSensors() throws IOException, ApiException {
+        Map<String, FullSensor> lastSensorStateCopy = new HashMap<>(lastSensorStates);
+
+        final HueDeviceDiscoveryService discovery = discoveryService;
+
+        for (final FullSensor sensor : hueBridge.getSensors()) {
+            String sensorId = sensor.getId();
+
+            final SensorStatusListener sensorStatusListener = sensorStatusListeners.get(sensorId);
+            if (sensorStatusListener == null) {
+                logger.trace("Hue sensor '{}' added.", sensorId);
+
+                if (discovery != null && !lastSensorStateCopy.containsKey(sensorId)) {
+                    discovery.addSensorDiscovery(sensor);
+                }
+
+                lastSensorStates.put(sensorId, sensor);
+            } else {
+                if (sensorStatusListener.onSensorStateChanged(sensor)) {
+                    lastSensorStates.put(sensorId, sensor);
+                }
+            }
+            lastSensorStateCopy.remove(sensorId);
+        }
+
+        // Check for removed sensors
+        lastSensorStateCopy.forEach((sensorId, sensor) -> {
+            logger.trace("Hue sensor '{}' removed.", sensorId);
+            lastSensorStates.remove(sensorId);
+
+            final SensorStatusListener sensorStatusListener = sensorStatusListeners.get(sensorId);
+            if (sensorStatusListener != null) {
+                sensorStatusListener.onSensorRemoved();
+            }
+
+            if (discovery != null && sensor != null) {
+                discovery.removeSensorDiscovery(sensor);
+            }
+        });
+    }
+
+    private void refreshAll() throws IOException, ApiException {
+        updateLights();
+        updateGroups();
+        updateScenes();
+        lastScenesRetrieval = Instant.now();
+        updateSensors();
+    }
+
+    /**
+     * Refreshes the resources reported as changed by the event stream.
+     *
+     * @param resources the API v1 paths of the changed resources
+     * @param structureChanged true if resources have been added or removed
+     */
+    private void applyEvent(Set<String> resources, boolean structureChanged) throws IOException, ApiException {
+        if (structureChanged) {
+            // added and removed resources are detected by a complete refresh, like with polling
+            refreshAll();
+            return;
+        }
+        boolean groupsChanged = false;
+        boolean scenesChanged = false;
+        for (String resource : resources) {
+            // e.g. "/lights/1"
+            String[] path = resource.split("/");
+            if (path.length != 3) {
+                continue;
+            }
+            String id = path[2];
+            switch (path[1]) {
+                case "lights":
+                    updateLight(id);
+                    groupsChanged |= lastGroupStates.values().stream()
+                            .anyMatch(group -> group.getLightIds().contains(id));
+                    break;
+                case "sensors":
+                    updateSensor(id);
+                    break;
+                case "groups":
+                    groupsChanged = true;
+                    break;
+                case "scenes":
+                    scenesChanged = true;
+                    break;
+                default:
+                    logger.trace("Ignoring event for resource '{}'.", resource);
+            }
+        }
+        if (groupsChanged) {
+            updateGroups();
+        }
+        if (scenesChanged) {
+            updateScenes();
+            lastScenesRetrieval = Instant.now();
+        }
+    }
+
+    private void updateLight(String lightId) throws IOException, ApiException {
+        final FullLight lastLight = lastLightStates.get(lightId);
+        if (lastLight == null) {
+            updateLights();
+            return;
+        }
+        FullLight light;
+        try {
+            light = (FullLight) hueBridge.getLight(lastLight);
+        } catch (EntityNotAvailableException e) {
+            updateLights();
+            return;
+        }
+        final LightStatusListener lightStatusListener = lightStatusListeners.get(lightId);
+        if (lightStatusListener == null || lightStatusListener.onLightStateChanged(light)) {
+            lastLightStates.put(lightId, light);
+        }
+    }
+
+    private void updateSensor(String sensorId) throws IOException, ApiException {
+        if (!lastSensorStates.containsKey(sensorId)) {
+            updateSensors();
+            return;
+        }
+        FullSensor sensor;
+        try {
+            sensor = hueBridge.getSensor(sensorId);
+        } catch (EntityNotAvailableException e) {
+            updateSensors();
+            return;
+        }
+        final SensorStatusListener sensorStatusListener = sensorStatusListeners.get(sensorId);
+        if (sensorStatusListener == null || sensorStatusListener.onSensorStateChanged(sensor)) {
+            lastSensorStates.put(sensorId, sensor);
+        }
+    }
+
     private void startLightPolling() {
         ScheduledFuture<?> job = lightPollingJob;
         if (job == null || job.isCancelled()) {
@@ -665,6 +800,73 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         sensorPollingJob = null;
     }
 
+    private void startEventStream() {
+        if (hueBridge == null || !hueBridgeConfig.useEventStream) {
+            return;
+        }
+        if (!HueBridgeConfig.HTTPS.equals(hueBridgeConfig.protocol)) {
+            logger.warn("The event stream of the Hue Bridge requires a HTTPS connection. Using polling instead.");
+            return;
+        }
+        if (!hueBridge.isAuthenticated()) {
+            // the polling authenticates with the bridge, try again later
+            scheduleEventStreamStart(EVENT_STREAM_START_DELAY);
+            return;
+        }
+        HueEventStream stream = hueBridge.createEventStream(eventListener);
+        synchronized (this) {
+            eventStream = stream;
+        }
+        stream.start();
+    }
+
+    private synchronized void scheduleEventStreamStart(long delay) {
+        ScheduledFuture<?> job = eventStreamJob;
+        if (job != null) {
+            job.cancel(false);
+        }
+        eventStreamJob = scheduler.schedule(this::startEventStream, delay, TimeUnit.SECONDS);
+    }
+
+    private synchronized void stopEventStream() {
+        ScheduledFuture<?> job = eventStreamJob;
+        if (job != null) {
+            job.cancel(true);
+        }
+        eventStreamJob = null;
+        HueEventStream stream = eventStream;
+        if (stream != null) {
+            stream.stop();
+        }
+        eventStream = null;
+        eventStreamRetryDelay = EVENT_STREAM_MIN_RETRY_DELAY;
+    }
+
+    private synchronized void switchToEventStream() {
+        if (eventStream == null) {
+            return;
+        }
+        logger.debug("Event stream of Hue Bridge {} connected, stopping polling.", hueBridgeConfig.ipAddress);
+        eventStreamRetryDelay = EVENT_STREAM_MIN_RETRY_DELAY;
+        stopLightPolling();
+        stopSensorPolling();
+        // catch up with the changes missed while (re)connecting
+        scheduler.execute(refreshAllRunnable);
+    }
+
+    private synchronized void switchToPolling(@Nullable String reason) {
+        if (eventStream == null) {
+            return;
+        }
+        eventStream = null;
+        logger.debug("Event stream of Hue Bridge {} closed ({}), polling until it is reconnected in {}s.",
+                hueBridgeConfig.ipAddress, reason, eventStreamRetryDelay);
+        startLightPolling();
+        startSensorPolling();
+        scheduleEventStreamStart(eventStreamRetryDelay);
+        eventStreamRetryDelay = Math.min(eventStreamRetryDelay * 2, EVENT_STREAM_MAX_RETRY_DELAY);
+    }
+
     @Override
     public void dispose() {
         logger.debug("Disposing Hue Bridge handler ...");
@@ -672,6 +874,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         if (job != null) {
             job.cancel(true);
         }
+        stopEventStream();
         stopLightPolling();
         stopSensorPolling();
         if (hueBridge != null) {
@@ -736,6 +939,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private synchronized void onUpdate() {
         startLightPolling();
         startSensorPolling();
+        if (hueBridgeConfig.useEventStream) {
+            scheduleEventStreamStart(EVENT_STREAM_START_DELAY);
+        }
     }
 
     /**
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link HueEventStream} replaying a recorded event stream.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HueEventStreamTest {
+
+    private static class RecordingListener implements HueEventListener {
+        private final List<Set<String>> resources = new ArrayList<>();
+        private final List<Boolean> structureChanged = new ArrayList<>();
+
+        @Override
+        public void onEventStreamConnected() {
+        }
+
+        @Override
+        public void onResourcesChanged(Set<String> resources, boolean structureChanged) {
+            this.resources.add(resources);
+            this.structureChanged.add(structureChanged);
+        }
+
+        @Override
+        public void onEventStreamClosed(@Nullable String reason) {
+        }
+    }
+
+    private final RecordingListener listener = new RecordingListener();
+    private final HueEventStream eventStream = new HueEventStream(mock(HttpClient.class),
+            "https://ip:443/eventstream/clip/v2", "username", listener);
+
+    @Test
+    public void testReplayRecordedEventStream() throws IOException {
+        byte[] recording;
+        try (InputStream in = Objects.requireNonNull(getClass().getResourceAsStream("eventstream.txt"))) {
+            recording = in.readAllBytes();
+        }
+
+        // the bridge sends the stream in chunks which do not respect line boundaries
+        for (int offset = 0; offset < recording.length; offset += 37) {
+            eventStream.onContent(ByteBuffer.wrap(recording, offset, Math.min(37, recording.length - offset)));
+        }
+
+        // the event of the entertainment configuration has no API v1 resource and is ignored
+        assertThat(listener.resources.size(), is(3));
+        assertThat(listener.resources.get(0), is(Set.of("/lights/1")));
+        assertThat(listener.structureChanged.get(0), is(false));
+        assertThat(listener.resources.get(1), is(Set.of("/sensors/5")));
+        assertThat(listener.structureChanged.get(1), is(false));
+        assertThat(listener.resources.get(2), is(Set.of("/sensors/7")));
+        assertThat(listener.structureChanged.get(2), is(true));
+    }
+
+    @Test
+    public void testMultiLineDataAndCarriageReturns() {
+        String message = ": hi\r\n\r\n" //
+                + "data: [{\"type\":\"update\",\r\n" //
+                + "data: \"data\":[{\"id_v1\":\"/groups/2\",\"type\":\"grouped_light\"}]}]\r\n" //
+                + "\r\n" //
+                + "data: not json\r\n" //
+                + "\r\n";
+        eventStream.onContent(ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(listener.resources.size(), is(1));
+        assertThat(listener.resources.get(0), is(Set.of("/groups/2")));
+    }
+}
@@ -279,7 +279,7 @@ public class IpCameraGroupHandler extends BaseThingHandler {
         }
         GroupServlet localServlet = servlet;
         if (localServlet != null) {
-            if (localServlet.snapshotStreamsOpen > 0) {
+            if (!localServlet.openSnapshotStreams.isEmpty()) {
                 cameraOrder.get(cameraIndex).getSnapshot();
             }
         }
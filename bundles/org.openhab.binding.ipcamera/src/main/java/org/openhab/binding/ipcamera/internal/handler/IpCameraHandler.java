@@ -271,9 +271,9 @@ public class IpCameraHandler extends BaseThingHandler {
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
                         if (contentType.contains("image/jp")) {
-                            for (int i = 0; i < content.content().capacity(); i++) {
-                                incomingJpeg[bytesAlreadyRecieved++] = content.content().getByte(i);
-                            }
+                            int length = content.content().capacity();
+                            content.content().getBytes(0, incomingJpeg, bytesAlreadyRecieved, length);
+                            bytesAlreadyRecieved += length;
                             if (content instanceof LastHttpContent) {
                                 processSnapshot(incomingJpeg);
                                 ctx.close();
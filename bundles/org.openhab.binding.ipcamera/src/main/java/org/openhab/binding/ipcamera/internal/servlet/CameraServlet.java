@@ -17,6 +17,7 @@ import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.HLS
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.Map;
@@ -46,6 +47,8 @@ public class CameraServlet extends IpCameraServlet {
     private static final long serialVersionUID = -134658667574L;
     private static final Dictionary<Object, Object> INIT_PARAMETERS = new Hashtable<>(
             Map.of("async-supported", "true"));
+    // ffmpeg posts single jpgs, a larger body is rejected instead of being buffered in memory
+    static final int MAX_POST_BODY_SIZE = 10 * 1024 * 1024;
 
     private final IpCameraHandler handler;
     public OpenStreams openStreams = new OpenStreams();
@@ -69,14 +72,16 @@ public class CameraServlet extends IpCameraServlet {
         switch (pathInfo) {
             case "/ipcamera.jpg":
                 // ffmpeg sends data here for ipcamera.mjpeg streams when camera has no native stream.
-                ServletInputStream snapshotData = req.getInputStream();
-                openStreams.queueFrame(snapshotData.readAllBytes());
-                snapshotData.close();
+                byte[] frame = readBody(req, resp);
+                if (frame != null) {
+                    openStreams.queueFrame(frame);
+                }
                 break;
             case "/snapshot.jpg":
-                snapshotData = req.getInputStream();
-                handler.processSnapshot(snapshotData.readAllBytes());
-                snapshotData.close();
+                byte[] snapshot = readBody(req, resp);
+                if (snapshot != null) {
+                    handler.processSnapshot(snapshot);
+                }
                 break;
             case "/OnvifEvent":
                 handler.onvifCamera.eventRecieved(req.getReader().toString());
@@ -165,7 +170,7 @@ public class CameraServlet extends IpCameraServlet {
                 openSnapshotStreams.addStream(output);
                 do {
                     try {
-                        output.sendSnapshotBasedFrame(handler.getSnapshot());
+                        output.sendSnapshotBasedFrame(openSnapshotStreams.getSnapshotFrame(handler.getSnapshot()));
                         Thread.sleep(handler.cameraConfig.getPollTime());
                     } catch (InterruptedException | IOException e) {
                         // Never stop streaming until IOException. Occurs when browser stops the stream.
@@ -202,11 +207,12 @@ public class CameraServlet extends IpCameraServlet {
                 openStreams.addStream(output);
                 do {
                     try {
-                        output.sendFrame();
+                        output.sendFrame(openStreams);
                     } catch (InterruptedException | IOException e) {
                         // Never stop streaming until IOException. Occurs when browser stops the stream.
                         openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+                        logger.debug("Now there are {} ipcamera.mjpeg streams open, the closed stream dropped {} "
+                                + "frames.", openStreams.getNumberOfStreams(), output.getDroppedFrames());
                         if (openStreams.isEmpty()) {
                             if (output.isSnapshotBased) {
                                 Ffmpeg localMjpeg = handler.ffmpegMjpeg;
@@ -216,7 +222,8 @@ public class CameraServlet extends IpCameraServlet {
                             } else {
                                 handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
                             }
-                            logger.debug("All ipcamera.mjpeg streams have stopped.");
+                            logger.debug("All ipcamera.mjpeg streams have stopped, {} frames were dropped in total.",
+                                    openStreams.getDroppedFrames());
                         }
                         return;
                     }
@@ -229,10 +236,10 @@ public class CameraServlet extends IpCameraServlet {
                 do {
                     try {
                         if (handler.motionDetected) {
-                            output.sendSnapshotBasedFrame(handler.getSnapshot());
+                            output.sendSnapshotBasedFrame(openAutoFpsStreams.getSnapshotFrame(handler.getSnapshot()));
                         } // every 8 seconds if no motion or the first three snapshots to fill any FIFO
                         else if (counter % 8 == 0 || counter < 3) {
-                            output.sendSnapshotBasedFrame(handler.getSnapshot());
+                            output.sendSnapshotBasedFrame(openAutoFpsStreams.getSnapshotFrame(handler.getSnapshot()));
                         }
                         counter++;
                         Thread.sleep(1000);
@@ -267,6 +274,34 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    /**
+     * Reads the body of a POST. The byte[] is created with the Content-Length sent by ffmpeg, so the jpg is not copied
+     * while it is read. Bodies larger than {@link #MAX_POST_BODY_SIZE} are answered with an error.
+     *
+     * @return the body or null if it was too large
+     */
+    static byte @Nullable [] readBody(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try (ServletInputStream input = req.getInputStream()) {
+            int contentLength = req.getContentLength();
+            if (contentLength > MAX_POST_BODY_SIZE) {
+                resp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                return null;
+            }
+            if (contentLength < 0) {
+                // read one byte more than allowed to find out if the body is too large
+                byte[] body = input.readNBytes(MAX_POST_BODY_SIZE + 1);
+                if (body.length > MAX_POST_BODY_SIZE) {
+                    resp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+                    return null;
+                }
+                return body;
+            }
+            byte[] body = new byte[contentLength];
+            int length = input.readNBytes(body, 0, contentLength);
+            return length == contentLength ? body : Arrays.copyOf(body, length);
+        }
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
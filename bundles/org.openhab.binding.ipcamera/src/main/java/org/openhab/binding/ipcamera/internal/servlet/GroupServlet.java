@@ -38,7 +38,7 @@ import org.osgi.service.http.HttpService;
 public class GroupServlet extends IpCameraServlet {
     private static final long serialVersionUID = -234658667574L;
     private final IpCameraGroupHandler handler;
-    public int snapshotStreamsOpen = 0;
+    public OpenStreams openSnapshotStreams = new OpenStreams();
 
     public GroupServlet(IpCameraGroupHandler handler, HttpService httpService) {
         super(handler, httpService);
@@ -85,16 +85,17 @@ public class GroupServlet extends IpCameraServlet {
             case "/ipcamera.mjpeg":
             case "/snapshots.mjpeg":
                 req.getSession().setMaxInactiveInterval(0);
-                snapshotStreamsOpen++;
                 StreamOutput output = new StreamOutput(resp);
+                openSnapshotStreams.addStream(output);
                 do {
                     try {
-                        output.sendSnapshotBasedFrame(handler.getSnapshot());
+                        // all streams share the frame of the current camera
+                        output.sendSnapshotBasedFrame(openSnapshotStreams.getSnapshotFrame(handler.getSnapshot()));
                         Thread.sleep(1005);
                     } catch (InterruptedException | IOException e) {
                         // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        snapshotStreamsOpen--;
-                        if (snapshotStreamsOpen == 0) {
+                        openSnapshotStreams.removeStream(output);
+                        if (openSnapshotStreams.isEmpty()) {
                             logger.debug("All snapshots.mjpeg streams have stopped.");
                         }
                         return;
@@ -139,4 +140,10 @@ public class GroupServlet extends IpCameraServlet {
         }
         super.sendSnapshotImage(response, contentType, snapshot);
     }
+
+    @Override
+    public void dispose() {
+        openSnapshotStreams.closeAllStreams();
+        super.dispose();
+    }
 }
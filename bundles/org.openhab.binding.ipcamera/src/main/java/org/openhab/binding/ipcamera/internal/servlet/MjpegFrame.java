@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link MjpegFrame} holds one jpg or one chunk of a cameras mjpeg stream that is shared by all open streams. The
+ * data is never copied and the multipart header of a jpg is only created once, no matter how many clients watch.
+ *
+ * @author agent - Initial contribution
+ */
+
+@NonNullByDefault
+public class MjpegFrame {
+    public static final String BOUNDARY = "thisMjpegStream";
+    static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final byte[] data;
+    private volatile byte @Nullable [] header;
+
+    public MjpegFrame(byte[] data) {
+        this.data = data;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * @return true if this frame holds the given byte[], so a frame can be reused for a snapshot that did not change.
+     */
+    public boolean contains(byte[] data) {
+        return this.data == data;
+    }
+
+    /**
+     * @return the multipart header needed to send this frame as a jpg of a snapshot based mjpeg stream.
+     */
+    public byte[] getHeader() {
+        byte[] localHeader = header;
+        if (localHeader == null) {
+            localHeader = ("--" + BOUNDARY + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
+                    + data.length + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+            header = localHeader;
+        }
+        return localHeader;
+    }
+}
@@ -12,31 +12,49 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams and shares the frames between them to allow 1 to many
+ * streams without needing to open more than 1 source stream.
  *
+ * Frames are kept in a single ring buffer and every stream only keeps a cursor into it, so a frame is stored once no
+ * matter how many streams are open. A stream that falls more than the size of the ring buffer behind skips the
+ * frames it missed.
  *
  * @author Matthew Skinner - Initial contribution
  */
 
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<StreamOutput>());
-    public String boundary = "thisMjpegStream";
+    private static final int RING_BUFFER_SIZE = 50;
+    private List<StreamOutput> openStreams = new ArrayList<StreamOutput>();
+    private final @Nullable MjpegFrame[] frames = new MjpegFrame[RING_BUFFER_SIZE];
+    // sequence number the next queued frame will get
+    private long nextSequence = 0;
+    private long droppedFrames = 0;
+    private @Nullable MjpegFrame lastSnapshotFrame;
+    public String boundary = MjpegFrame.BOUNDARY;
 
     public synchronized void addStream(StreamOutput stream) {
+        // a new stream starts with the next frame
+        stream.nextSequence = nextSequence;
         openStreams.add(stream);
     }
 
     public synchronized void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        if (openStreams.isEmpty()) {
+            // release the frames, a new stream starts with the next frame anyway
+            Arrays.fill(frames, null);
+        }
+        notifyAll();
     }
 
     public synchronized int getNumberOfStreams() {
@@ -47,6 +65,14 @@ public class OpenStreams {
         return openStreams.isEmpty();
     }
 
+    /**
+     * @return the number of frames that streams had to skip since the streams were created, because the clients could
+     *         not receive them fast enough.
+     */
+    public synchronized long getDroppedFrames() {
+        return droppedFrames;
+    }
+
     public synchronized void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
         for (StreamOutput stream : openStreams) {
@@ -55,9 +81,52 @@ public class OpenStreams {
     }
 
     public synchronized void queueFrame(byte[] frame) {
-        for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+        if (openStreams.isEmpty()) {
+            return;
+        }
+        frames[(int) (nextSequence % RING_BUFFER_SIZE)] = new MjpegFrame(frame);
+        nextSequence++;
+        notifyAll();
+    }
+
+    /**
+     * Returns a frame for a snapshot, reusing the last frame if the snapshot has not changed since, so its multipart
+     * header is shared by all streams.
+     */
+    public synchronized MjpegFrame getSnapshotFrame(byte[] snapshot) {
+        MjpegFrame frame = lastSnapshotFrame;
+        if (frame == null || !frame.contains(snapshot)) {
+            frame = new MjpegFrame(snapshot);
+            lastSnapshotFrame = frame;
+        }
+        return frame;
+    }
+
+    /**
+     * Waits for the next frame of the given stream and moves its cursor forward.
+     *
+     * @throws IOException if the stream is no longer open
+     */
+    synchronized MjpegFrame takeFrame(StreamOutput stream) throws IOException, InterruptedException {
+        while (stream.nextSequence >= nextSequence) {
+            if (!openStreams.contains(stream)) {
+                throw new IOException("Stream has been closed");
+            }
+            wait();
+        }
+        long oldestSequence = nextSequence - RING_BUFFER_SIZE;
+        if (stream.nextSequence < oldestSequence) {
+            long skipped = oldestSequence - stream.nextSequence;
+            stream.droppedFrames += skipped;
+            droppedFrames += skipped;
+            stream.nextSequence = oldestSequence;
+        }
+        MjpegFrame frame = frames[(int) (stream.nextSequence++ % RING_BUFFER_SIZE)];
+        if (frame == null) {
+            // cannot happen, every sequence number between the oldest and the next one has a frame
+            throw new IOException("Frame is missing from the ring buffer");
         }
+        return frame;
     }
 
     public synchronized void closeAllStreams() {
@@ -65,5 +134,7 @@ public class OpenStreams {
             stream.close();
         }
         openStreams.clear();
+        Arrays.fill(frames, null);
+        notifyAll();
     }
 }
@@ -13,8 +13,6 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
@@ -24,7 +22,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link StreamOutput} Streams mjpeg out to a client
+ * The {@link StreamOutput} Streams mjpeg out to a client. The frames are taken from the ring buffer of the
+ * {@link OpenStreams} the stream was added to.
  *
  * @author Matthew Skinner - Initial contribution
  */
@@ -36,12 +35,14 @@ public class StreamOutput {
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<byte[]>(50);
     private boolean connected = false;
     public boolean isSnapshotBased = false;
+    // cursor into the ring buffer of the OpenStreams, guarded by the OpenStreams
+    long nextSequence = 0;
+    volatile long droppedFrames = 0;
 
     public StreamOutput(HttpServletResponse response) throws IOException {
-        boundary = "thisMjpegStream";
+        boundary = MjpegFrame.BOUNDARY;
         contentType = "multipart/x-mixed-replace; boundary=" + boundary;
         this.response = response;
         output = response.getOutputStream();
@@ -59,30 +60,20 @@ public class StreamOutput {
         }
     }
 
-    public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+    public void sendSnapshotBasedFrame(MjpegFrame currentSnapshot) throws IOException {
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
-            output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            writeSnapshotBasedFrame(currentSnapshot);
             connected = true;
         }
-        output.write(header.getBytes());
-        output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        writeSnapshotBasedFrame(currentSnapshot);
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space:{}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
-        }
+    private void writeSnapshotBasedFrame(MjpegFrame frame) throws IOException {
+        output.write(frame.getHeader());
+        output.write(frame.getData());
+        output.write(MjpegFrame.CRLF);
     }
 
     public void updateContentType(String contentType) {
@@ -93,14 +84,27 @@ public class StreamOutput {
         }
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
+    /**
+     * Waits for the next frame queued to the given streams and sends it.
+     *
+     * @throws IOException if the client has closed the stream or the stream was removed from the streams
+     */
+    public void sendFrame(OpenStreams streams) throws IOException, InterruptedException {
+        MjpegFrame frame = streams.takeFrame(this);
         if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
+            sendSnapshotBasedFrame(frame);
         } else if (connected) {
-            output.write(fifo.take());
+            output.write(frame.getData());
         }
     }
 
+    /**
+     * @return the number of frames this stream skipped, because the client could not receive them fast enough.
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
     private void sendInitialHeaders() {
         response.setContentType(contentType);
         response.setHeader("Access-Control-Allow-Origin", "*");
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests reading the POST bodies sent to the {@link CameraServlet}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class CameraServletTest {
+
+    private @Mock @NonNullByDefault({}) HttpServletRequest request;
+    private @Mock @NonNullByDefault({}) HttpServletResponse response;
+
+    private static ServletInputStream inputStream(byte[] body) {
+        ByteArrayInputStream input = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public int read() {
+                return input.read();
+            }
+
+            @Override
+            public boolean isFinished() {
+                return input.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(@Nullable ReadListener readListener) {
+            }
+        };
+    }
+
+    @Test
+    public void bodyWithContentLengthIsRead() throws IOException {
+        byte[] jpg = new byte[] { 1, 2, 3 };
+        when(request.getInputStream()).thenReturn(inputStream(jpg));
+        when(request.getContentLength()).thenReturn(jpg.length);
+
+        assertArrayEquals(jpg, CameraServlet.readBody(request, response));
+        verifyNoInteractions(response);
+    }
+
+    @Test
+    public void bodyWithoutContentLengthIsRead() throws IOException {
+        byte[] jpg = new byte[] { 1, 2, 3 };
+        when(request.getInputStream()).thenReturn(inputStream(jpg));
+        when(request.getContentLength()).thenReturn(-1);
+
+        assertArrayEquals(jpg, CameraServlet.readBody(request, response));
+        verifyNoInteractions(response);
+    }
+
+    @Test
+    public void shorterBodyThanContentLengthIsTruncated() throws IOException {
+        when(request.getInputStream()).thenReturn(inputStream(new byte[] { 1, 2 }));
+        when(request.getContentLength()).thenReturn(5);
+
+        assertArrayEquals(new byte[] { 1, 2 }, CameraServlet.readBody(request, response));
+    }
+
+    @Test
+    public void tooLargeContentLengthIsRejectedWithoutReading() throws IOException {
+        ServletInputStream input = mock(ServletInputStream.class);
+        when(request.getInputStream()).thenReturn(input);
+        when(request.getContentLength()).thenReturn(Integer.MAX_VALUE);
+
+        assertNull(CameraServlet.readBody(request, response));
+        verify(response).sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+        verify(input, never()).read(any(byte[].class), anyInt(), anyInt());
+    }
+
+    @Test
+    public void tooLargeBodyWithoutContentLengthIsRejected() throws IOException {
+        when(request.getInputStream()).thenReturn(inputStream(new byte[CameraServlet.MAX_POST_BODY_SIZE + 1]));
+        when(request.getContentLength()).thenReturn(-1);
+
+        assertNull(CameraServlet.readBody(request, response));
+        verify(response).sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE);
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link MjpegFrame}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MjpegFrameTest {
+
+    @Test
+    public void headerDescribesTheJpg() {
+        MjpegFrame frame = new MjpegFrame(new byte[1234]);
+
+        assertThat(new String(frame.getHeader(), StandardCharsets.US_ASCII), is(
+                "--" + MjpegFrame.BOUNDARY + "\r\nContent-Type: image/jpeg\r\nContent-Length: 1234\r\n\r\n"));
+    }
+
+    @Test
+    public void headerIsCreatedOnce() {
+        MjpegFrame frame = new MjpegFrame(new byte[10]);
+
+        assertSame(frame.getHeader(), frame.getHeader());
+    }
+
+    @Test
+    public void dataIsNotCopied() {
+        byte[] data = new byte[] { 1, 2, 3 };
+        MjpegFrame frame = new MjpegFrame(data);
+
+        assertSame(data, frame.getData());
+        assertTrue(frame.contains(data));
+        assertFalse(frame.contains(new byte[] { 1, 2, 3 }));
+    }
+}
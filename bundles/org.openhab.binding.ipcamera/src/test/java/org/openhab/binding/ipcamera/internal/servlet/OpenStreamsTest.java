@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Tests the ring buffer of the {@link OpenStreams}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class OpenStreamsTest {
+    private static final int RING_BUFFER_SIZE = 50;
+
+    private @Mock @NonNullByDefault({}) HttpServletResponse response;
+    private @Mock @NonNullByDefault({}) ServletOutputStream output;
+
+    private final OpenStreams streams = new OpenStreams();
+
+    private StreamOutput addStream() throws IOException {
+        when(response.getOutputStream()).thenReturn(output);
+        StreamOutput stream = new StreamOutput(response, "");
+        streams.addStream(stream);
+        return stream;
+    }
+
+    @Test
+    public void framesWithoutStreamsAreNotQueued() throws IOException, InterruptedException {
+        streams.queueFrame(new byte[] { 1 });
+        StreamOutput stream = addStream();
+        byte[] data = new byte[] { 2 };
+        streams.queueFrame(data);
+
+        assertSame(data, streams.takeFrame(stream).getData());
+    }
+
+    @Test
+    public void newStreamStartsWithNextFrame() throws IOException, InterruptedException {
+        StreamOutput first = addStream();
+        streams.queueFrame(new byte[] { 1 });
+        StreamOutput second = addStream();
+        byte[] data = new byte[] { 2 };
+        streams.queueFrame(data);
+
+        assertSame(data, streams.takeFrame(second).getData());
+        assertThat(streams.takeFrame(first).getData()[0], is((byte) 1));
+        assertSame(data, streams.takeFrame(first).getData());
+    }
+
+    @Test
+    public void framesAreSharedBetweenStreams() throws IOException, InterruptedException {
+        StreamOutput first = addStream();
+        StreamOutput second = addStream();
+        streams.queueFrame(new byte[] { 1 });
+        streams.queueFrame(new byte[] { 2 });
+
+        MjpegFrame frame = streams.takeFrame(first);
+        assertSame(frame, streams.takeFrame(second));
+        assertSame(streams.takeFrame(first), streams.takeFrame(second));
+    }
+
+    @Test
+    public void slowStreamSkipsOverwrittenFrames() throws IOException, InterruptedException {
+        StreamOutput slow = addStream();
+        for (int i = 0; i < RING_BUFFER_SIZE + 10; i++) {
+            streams.queueFrame(new byte[] { (byte) i });
+        }
+
+        assertThat(streams.takeFrame(slow).getData()[0], is((byte) 10));
+        assertThat(slow.getDroppedFrames(), is(10L));
+        assertThat(streams.getDroppedFrames(), is(10L));
+        assertThat(streams.takeFrame(slow).getData()[0], is((byte) 11));
+    }
+
+    @Test
+    public void takeFrameWaitsForNextFrame() throws Exception {
+        StreamOutput stream = addStream();
+        CompletableFuture<MjpegFrame> taken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return streams.takeFrame(stream);
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        byte[] data = new byte[] { 1 };
+        streams.queueFrame(data);
+
+        assertSame(data, taken.get(5, TimeUnit.SECONDS).getData());
+    }
+
+    @Test
+    public void takeFrameFailsOnceStreamIsRemoved() throws IOException {
+        StreamOutput stream = addStream();
+        streams.removeStream(stream);
+
+        assertThrows(IOException.class, () -> streams.takeFrame(stream));
+        assertTrue(streams.isEmpty());
+    }
+
+    @Test
+    public void snapshotFrameIsReusedWhileSnapshotIsUnchanged() {
+        byte[] snapshot = new byte[] { 1 };
+        MjpegFrame frame = streams.getSnapshotFrame(snapshot);
+
+        assertSame(frame, streams.getSnapshotFrame(snapshot));
+        assertNotSame(frame, streams.getSnapshotFrame(new byte[] { 1 }));
+    }
+}
@@ -15,11 +15,12 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -81,6 +82,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private ClientState state = ClientState.INIT;
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    // upper limit for the factor applied to the reading pause when the bus is congested
+    private static final int MAX_READ_BACKOFF = 16;
+    // weight of the latest value in the moving average of the read round trip time
+    private static final double SMOOTHING = 0.1;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -101,8 +106,13 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final Map<GroupAddress, Set<GroupAddressListener>> groupAddressListeners = new ConcurrentHashMap<>();
+    private final ReadQueue readDatapoints = new ReadQueue();
+
+    // read pacing, only changed by the bus job
+    private int readBackoff = 1;
+    private long nextReadNanos = System.nanoTime();
+    private volatile double averageReadMillis;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -323,11 +333,20 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        Set<GroupAddressListener> listeners = groupAddressListeners.get(destination);
+        if (listeners == null || listeners.isEmpty()) {
+            return;
         }
+        // notify all listeners of the destination from a single task, instead of one task per listener
+        knxScheduler.execute(() -> {
+            for (GroupAddressListener listener : listeners) {
+                try {
+                    action.apply(listener, source, destination, asdu);
+                } catch (RuntimeException e) {
+                    logger.warn("Processing a {} telegram to '{}' failed: {}", task, destination, e.getMessage());
+                }
+            }
+        });
     }
 
     // datapoint is null at end of the list, warning is misleading
@@ -340,13 +359,20 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
+        if (System.nanoTime() - nextReadNanos < 0) {
+            // the bus is congested, wait longer than the reading pause
+            return;
+        }
         ReadDatapoint datapoint = readDatapoints.poll();
         if (datapoint != null) {
             datapoint.incrementRetries();
+            long start = System.nanoTime();
             try {
                 logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
                 processCommunicator.read(datapoint.getDatapoint());
+                updateReadPacing(start, true);
             } catch (KNXException e) {
+                updateReadPacing(start, false);
                 // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
                 // KnxIllegArgumentException
                 if (datapoint.getRetries() < datapoint.getLimit()) {
@@ -369,6 +395,35 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
+    /**
+     * Adapts the pause between read requests to the bus. A read blocks until the response is received, a timeout or
+     * an unusually slow response indicates a congested bus and doubles the pause, every other response halves it
+     * again, down to the configured reading pause.
+     *
+     * @param start the time the read request was sent
+     * @param success true if the response was received
+     */
+    private void updateReadPacing(long start, boolean success) {
+        double roundTrip = (System.nanoTime() - start) / 1_000_000.0;
+        double average = averageReadMillis;
+        boolean congested = !success || (average > 0 && roundTrip > 2 * average);
+        int previousBackoff = readBackoff;
+        readBackoff = congested ? Math.min(MAX_READ_BACKOFF, readBackoff * 2) : Math.max(1, readBackoff / 2);
+        averageReadMillis = average == 0 ? roundTrip : average * (1 - SMOOTHING) + roundTrip * SMOOTHING;
+        // the bus job itself waits one reading pause between runs
+        nextReadNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos((long) readingPause * (readBackoff - 1));
+        if (congested) {
+            logger.debug(
+                    "Bus of bridge {} is congested, pausing {} ms between reads ({} reads queued, average wait {} ms, max wait {} ms, average round trip {} ms)",
+                    thingUID, readingPause * readBackoff, readDatapoints.size(),
+                    Math.round(readDatapoints.getAverageWaitMillis()), readDatapoints.getMaxWaitMillis(),
+                    Math.round(averageReadMillis));
+        } else if (previousBackoff > 1 && readBackoff == 1) {
+            logger.debug("Bus of bridge {} is no longer congested, pausing {} ms between reads ({} reads queued)",
+                    thingUID, readingPause, readDatapoints.size());
+        }
+    }
+
     public void dispose() {
         state = ClientState.DISPOSE;
 
@@ -437,23 +492,33 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        if (readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit, priority))) {
+            logger.trace("Queued {} read of {}, {} datapoints waiting", priority, datapoint.getMainAddress(),
+                    readDatapoints.size());
         }
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        for (GroupAddress groupAddress : listener.getGroupAddresses()) {
+            groupAddressListeners.compute(groupAddress, (ga, listeners) -> {
+                Set<GroupAddressListener> updated = listeners != null ? listeners : new CopyOnWriteArraySet<>();
+                updated.add(listener);
+                return updated;
+            });
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        // the group addresses of the listener may have changed since it was registered, so check all of them
+        for (GroupAddress groupAddress : groupAddressListeners.keySet()) {
+            groupAddressListeners.computeIfPresent(groupAddress, (ga, listeners) -> {
+                listeners.remove(listener);
+                return listeners.isEmpty() ? null : listeners;
+            });
+        }
     }
 
     @Override
@@ -28,11 +28,15 @@ public class ReadDatapoint {
     private final Datapoint datapoint;
     private int retries;
     private final int limit;
+    private ReadPriority priority;
+    private final long queuedAt;
 
-    public ReadDatapoint(Datapoint datapoint, int limit) {
+    public ReadDatapoint(Datapoint datapoint, int limit, ReadPriority priority) {
         this.datapoint = datapoint;
         this.retries = 0;
         this.limit = limit;
+        this.priority = priority;
+        this.queuedAt = System.nanoTime();
     }
 
     public Datapoint getDatapoint() {
@@ -51,6 +55,21 @@ public class ReadDatapoint {
         return limit;
     }
 
+    public ReadPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(ReadPriority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * @return the time since the data point was first queued, in milliseconds
+     */
+    public long getWaitMillis() {
+        return (System.nanoTime() - queuedAt) / 1_000_000;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
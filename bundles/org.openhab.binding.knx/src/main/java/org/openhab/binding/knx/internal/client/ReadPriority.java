@@ -10,20 +10,21 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.openhab.persistence.influxdb.internal;
+package org.openhab.binding.knx.internal.client;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
- * Throw to indicate an unexpected condition that should not have happened (a bug)
+ * Priority of a queued read request, in descending order.
  *
- * @author Joan Pujol Espinar - Initial contribution
+ * @author agent - Initial contribution
  */
 @NonNullByDefault
-public class UnexpectedConditionException extends Exception {
-    private static final long serialVersionUID = 1128380327167959556L;
-
-    public UnexpectedConditionException(String message) {
-        super(message);
-    }
+public enum ReadPriority {
+    /** Reads requested by a REFRESH command, e.g. from a UI. */
+    REFRESH,
+    /** First read of a channel after linking it or (re-)connecting. */
+    INITIAL,
+    /** Reads repeated every read interval. */
+    PERIODIC
 }
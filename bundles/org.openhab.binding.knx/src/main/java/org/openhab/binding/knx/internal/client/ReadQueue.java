@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * Queue of datapoints waiting to be read from the bus.
+ *
+ * A group address is queued at most once. Datapoints are taken in the order of their {@link ReadPriority} and within
+ * the same priority in the order they were added. Requesting a queued address with a higher priority moves it to the
+ * higher priority.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadQueue {
+
+    // weight of the latest value in the moving averages
+    private static final double SMOOTHING = 0.1;
+
+    private final Map<GroupAddress, ReadDatapoint> pending = new HashMap<>();
+    private final Map<ReadPriority, Deque<GroupAddress>> queues = new EnumMap<>(ReadPriority.class);
+
+    private volatile double averageWaitMillis;
+    private volatile long maxWaitMillis;
+
+    ReadQueue() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Adds a datapoint, unless its group address is already queued.
+     *
+     * @param datapoint the datapoint to read
+     * @return true if the datapoint was added, false if its group address was already queued
+     */
+    synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint queued = pending.get(address);
+        if (queued == null) {
+            pending.put(address, datapoint);
+            getQueue(datapoint.getPriority()).addLast(address);
+            return true;
+        }
+        if (datapoint.getPriority().compareTo(queued.getPriority()) < 0) {
+            // the entry in the lower priority queue is skipped when it is reached
+            queued.setPriority(datapoint.getPriority());
+            getQueue(datapoint.getPriority()).addLast(address);
+        }
+        return false;
+    }
+
+    /**
+     * Takes the next datapoint to read.
+     *
+     * @return the datapoint or null if the queue is empty
+     */
+    synchronized @Nullable ReadDatapoint poll() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            Deque<GroupAddress> queue = getQueue(priority);
+            GroupAddress address;
+            while ((address = queue.pollFirst()) != null) {
+                ReadDatapoint datapoint = pending.get(address);
+                if (datapoint != null && datapoint.getPriority() == priority) {
+                    pending.remove(address);
+                    recordWait(datapoint);
+                    return datapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    synchronized void clear() {
+        pending.clear();
+        queues.values().forEach(Deque::clear);
+    }
+
+    /**
+     * @return the number of queued datapoints
+     */
+    synchronized int size() {
+        return pending.size();
+    }
+
+    /**
+     * @return the moving average of the time datapoints waited in the queue, in milliseconds
+     */
+    double getAverageWaitMillis() {
+        return averageWaitMillis;
+    }
+
+    /**
+     * @return the longest time a datapoint waited in the queue, in milliseconds
+     */
+    long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    private Deque<GroupAddress> getQueue(ReadPriority priority) {
+        Deque<GroupAddress> queue = queues.get(priority);
+        if (queue == null) {
+            throw new IllegalStateException("No queue for priority " + priority);
+        }
+        return queue;
+    }
+
+    private void recordWait(ReadDatapoint datapoint) {
+        long wait = datapoint.getWaitMillis();
+        averageWaitMillis = averageWaitMillis == 0 ? wait : averageWaitMillis * (1 - SMOOTHING) + wait * SMOOTHING;
+        maxWaitMillis = Math.max(maxWaitMillis, wait);
+    }
+}
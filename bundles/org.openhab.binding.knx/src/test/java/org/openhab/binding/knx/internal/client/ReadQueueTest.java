@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.KNXFormatException;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ReadQueueTest {
+
+    private static ReadDatapoint datapoint(String address, ReadPriority priority) throws KNXFormatException {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(address), "test", 0, "1.001"), 3, priority);
+    }
+
+    private static @Nullable GroupAddress pollAddress(ReadQueue queue) {
+        ReadDatapoint datapoint = queue.poll();
+        return datapoint == null ? null : datapoint.getDatapoint().getMainAddress();
+    }
+
+    @Test
+    void testDuplicatesAreIgnored() throws KNXFormatException {
+        ReadQueue queue = new ReadQueue();
+
+        assertTrue(queue.add(datapoint("1/0/1", ReadPriority.PERIODIC)));
+        assertFalse(queue.add(datapoint("1/0/1", ReadPriority.PERIODIC)));
+        assertEquals(1, queue.size());
+
+        assertEquals(new GroupAddress("1/0/1"), pollAddress(queue));
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    void testHigherPriorityIsReadFirst() throws KNXFormatException {
+        ReadQueue queue = new ReadQueue();
+
+        queue.add(datapoint("1/0/1", ReadPriority.PERIODIC));
+        queue.add(datapoint("1/0/2", ReadPriority.INITIAL));
+        queue.add(datapoint("1/0/3", ReadPriority.REFRESH));
+
+        assertEquals(new GroupAddress("1/0/3"), pollAddress(queue));
+        assertEquals(new GroupAddress("1/0/2"), pollAddress(queue));
+        assertEquals(new GroupAddress("1/0/1"), pollAddress(queue));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testQueuedDatapointIsPromoted() throws KNXFormatException {
+        ReadQueue queue = new ReadQueue();
+
+        queue.add(datapoint("1/0/1", ReadPriority.INITIAL));
+        queue.add(datapoint("1/0/2", ReadPriority.PERIODIC));
+        assertFalse(queue.add(datapoint("1/0/2", ReadPriority.REFRESH)));
+        // a lower priority does not demote
+        assertFalse(queue.add(datapoint("1/0/1", ReadPriority.PERIODIC)));
+
+        assertEquals(new GroupAddress("1/0/2"), pollAddress(queue));
+        assertEquals(new GroupAddress("1/0/1"), pollAddress(queue));
+        assertNull(queue.poll());
+    }
+}
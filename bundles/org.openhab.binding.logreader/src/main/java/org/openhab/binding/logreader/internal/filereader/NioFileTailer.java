@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * NIO based log file reader implementation. New content is read in large chunks through a {@link FileChannel} and
+ * split into lines without copying complete lines.
+ *
+ * A rotation is detected when the file is truncated or when the path refers to another file than the one being read.
+ * In the latter case the rest of the old file is read before reading the new file from its beginning.
+ *
+ * Every {@link #start(String, long)} runs its own {@link TailTask}, so a task which is still shutting down never
+ * reports to the listeners on behalf of a newer one.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NioFileTailer extends AbstractLogFileReader implements LogFileReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long STOP_TIMEOUT_MS = 5000;
+
+    private final Logger logger = LoggerFactory.getLogger(NioFileTailer.class);
+
+    private final Charset charset = Charset.defaultCharset();
+
+    private @Nullable ExecutorService executor;
+    private @Nullable TailTask task;
+
+    @Override
+    public synchronized void start(String filePath, long refreshRate) throws FileReaderException {
+        Path path;
+        try {
+            path = Paths.get(filePath);
+        } catch (Exception e) {
+            throw new FileReaderException(e);
+        }
+        ExecutorService localExecutor = Executors.newSingleThreadExecutor();
+        TailTask localTask = new TailTask(path, refreshRate);
+        logger.debug("Start executor");
+        localExecutor.execute(localTask);
+        logger.debug("Executor started");
+        executor = localExecutor;
+        task = localTask;
+    }
+
+    @Override
+    public synchronized void stop() {
+        logger.debug("Shutdown");
+        TailTask localTask = task;
+        if (localTask != null) {
+            localTask.running = false;
+            task = null;
+        }
+        ExecutorService localExecutor = executor;
+        if (localExecutor != null) {
+            localExecutor.shutdownNow();
+            executor = null;
+            try {
+                if (!localExecutor.awaitTermination(STOP_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    logger.debug("File reader did not terminate within {} ms", STOP_TIMEOUT_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        logger.debug("Shutdown complete");
+    }
+
+    /**
+     * Reads one file until it is stopped. The running state and the buffers belong to the task, so they are never
+     * shared with the task of another start.
+     */
+    private class TailTask implements Runnable {
+        private final Path path;
+        private final long refreshRate;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        // beginning of a line which has not been terminated yet
+        private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+        private volatile boolean running = true;
+
+        TailTask(Path path, long refreshRate) {
+            this.path = path;
+            this.refreshRate = refreshRate;
+        }
+
+        @Override
+        public void run() {
+            FileChannel channel = null;
+            Object fileKey = null;
+            long position = 0;
+            // the file is read from its end when it is opened first, from its beginning after a rotation
+            boolean fromEnd = true;
+            try {
+                while (running) {
+                    if (channel == null) {
+                        try {
+                            channel = FileChannel.open(path, StandardOpenOption.READ);
+                        } catch (NoSuchFileException e) {
+                            sendFileNotFoundToListeners();
+                            Thread.sleep(refreshRate);
+                            continue;
+                        }
+                        fileKey = getFileKey(path);
+                        position = fromEnd ? channel.size() : 0;
+                        partialLine.reset();
+                    }
+
+                    long size = channel.size();
+                    if (size < position) {
+                        // truncated
+                        sendFileRotationToListeners();
+                        position = 0;
+                        partialLine.reset();
+                    }
+                    position = readLines(channel, position);
+
+                    Object currentFileKey = getFileKey(path);
+                    if (currentFileKey != null && !currentFileKey.equals(fileKey)) {
+                        // renamed and replaced by a new file, finish reading the old file first
+                        position = readLines(channel, position);
+                        channel.close();
+                        channel = null;
+                        fromEnd = false;
+                        sendFileRotationToListeners();
+                        continue;
+                    }
+                    Thread.sleep(refreshRate);
+                }
+            } catch (InterruptedException | IOException e) {
+                // stopping interrupts the task, which also closes the channel with a ClosedByInterruptException
+                if (running) {
+                    sendExceptionToListeners(e);
+                }
+            } finally {
+                if (channel != null) {
+                    try {
+                        channel.close();
+                    } catch (IOException e) {
+                        logger.debug("Failed to close file: {}", e.getMessage());
+                    }
+                }
+            }
+        }
+
+        /**
+         * Read the content of the channel from the given position and send all complete lines to the listeners.
+         *
+         * @return the position after the read content.
+         */
+        private long readLines(FileChannel channel, long position) throws IOException {
+            long readPosition = position;
+            int count;
+            while (running && (count = channel.read(buffer, readPosition)) > 0) {
+                readPosition += count;
+                byte[] bytes = buffer.array();
+                int start = 0;
+                for (int i = 0; i < count; i++) {
+                    if (bytes[i] == '\n') {
+                        sendLine(bytes, start, i - start);
+                        start = i + 1;
+                    }
+                }
+                partialLine.write(bytes, start, count - start);
+                buffer.clear();
+            }
+            return readPosition;
+        }
+
+        private void sendLine(byte[] bytes, int offset, int length) {
+            String line;
+            if (partialLine.size() == 0) {
+                line = decode(bytes, offset, length);
+            } else {
+                partialLine.write(bytes, offset, length);
+                line = decode(partialLine.toByteArray(), 0, partialLine.size());
+                partialLine.reset();
+            }
+            if (running) {
+                sendLineToListeners(line);
+            }
+        }
+    }
+
+    private @Nullable Object getFileKey(Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            // the file key is not available on all platforms
+            Object fileKey = attributes.fileKey();
+            return fileKey != null ? fileKey : attributes.creationTime();
+        } catch (IOException e) {
+            // rotation in progress, the file will be checked again
+            return null;
+        }
+    }
+
+    private String decode(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        if (length > 0 && bytes[end - 1] == '\r') {
+            end--;
+        }
+        return new String(bytes, offset, end - offset, charset);
+    }
+}
@@ -24,13 +24,23 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * This class implements logic for regular expression based searching.
  *
+ * All search patterns are combined into a single regular expression, so a line is searched only once no matter how
+ * many patterns are configured. Patterns which are plain text are searched without regular expressions at all.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class SearchEngine {
 
+    // characters which give a pattern a meaning beyond plain text
+    private static final String REGEX_METACHARACTERS = "\\^$.|?*+()[]{}";
+    // numbered and named back references refer to groups of their own pattern and prevent combining patterns
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
+
     private List<Pattern> matchers;
     private List<Pattern> blacklistingMatchers;
+    private @Nullable List<String> literals;
+    private @Nullable List<String> blacklistingLiterals;
 
     private long matchCount;
 
@@ -44,6 +54,8 @@ public class SearchEngine {
     public SearchEngine(String patterns, @Nullable String blacklistingPatterns) throws PatternSyntaxException {
         matchers = compilePatterns(patterns);
         blacklistingMatchers = compilePatterns(blacklistingPatterns);
+        literals = getLiterals(patterns);
+        blacklistingLiterals = getLiterals(blacklistingPatterns);
     }
 
     /**
@@ -53,7 +65,7 @@ public class SearchEngine {
      * @return true if one of the search patterns found.
      */
     public boolean isMatching(String data) {
-        if (isMatching(matchers, data)) {
+        if (isMatching(literals, matchers, data)) {
             if (notBlacklisted(data)) {
                 matchCount++;
                 return true;
@@ -90,11 +102,69 @@ public class SearchEngine {
                 }
             }
         }
-        return patternsList;
+        return combinePatterns(patternsList);
+    }
+
+    /**
+     * Combine precompiled patterns into a single alternation. Every pattern is wrapped in a non-capturing group, so
+     * inline flags stay local to their pattern.
+     *
+     * @param patterns patterns which will be combined.
+     * @return list containing the combined pattern, or the given patterns if they cannot be combined.
+     */
+    private List<Pattern> combinePatterns(List<Pattern> patterns) {
+        if (patterns.size() < 2 || patterns.stream().anyMatch(p -> BACK_REFERENCE.matcher(p.pattern()).find())) {
+            return patterns;
+        }
+        StringBuilder combined = new StringBuilder();
+        for (Pattern pattern : patterns) {
+            if (combined.length() > 0) {
+                combined.append('|');
+            }
+            combined.append("(?:").append(pattern.pattern()).append(')');
+        }
+        try {
+            return List.of(Pattern.compile(combined.toString()));
+        } catch (PatternSyntaxException e) {
+            // e.g. the same named group is used in several patterns
+            return patterns;
+        }
+    }
+
+    /**
+     * Split pattern string into plain text search strings.
+     *
+     * @param patterns patterns which will handled.
+     * @return list of search strings or null if one of the patterns is a regular expression.
+     */
+    private @Nullable List<String> getLiterals(@Nullable String patterns) {
+        if (patterns == null || patterns.isEmpty()) {
+            return null;
+        }
+        List<String> literalsList = new ArrayList<>();
+        for (String patternStr : patterns.split("\\|")) {
+            if (patternStr.isEmpty() || patternStr.chars().anyMatch(c -> REGEX_METACHARACTERS.indexOf(c) >= 0)) {
+                return null;
+            }
+            literalsList.add(patternStr);
+        }
+        return literalsList;
     }
 
     private boolean notBlacklisted(String data) {
-        return !isMatching(blacklistingMatchers, data);
+        return !isMatching(blacklistingLiterals, blacklistingMatchers, data);
+    }
+
+    private boolean isMatching(@Nullable List<String> literals, List<Pattern> patterns, String data) {
+        if (literals != null) {
+            for (String literal : literals) {
+                if (data.contains(literal)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isMatching(patterns, data);
     }
 
     private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Tests the {@link NioFileTailer} against a real file.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NioFileTailerTest {
+    private static final long REFRESH_RATE = 10;
+    private static final String ROTATED = "<rotated>";
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+    private @NonNullByDefault({}) Path logFile;
+
+    private final NioFileTailer tailer = new NioFileTailer();
+    private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+    private final List<Exception> exceptions = new CopyOnWriteArrayList<>();
+    private int syncCount;
+
+    private final FileReaderListener listener = new FileReaderListener() {
+        @Override
+        public void fileNotFound() {
+        }
+
+        @Override
+        public void fileRotated() {
+            events.add(ROTATED);
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            if (line != null) {
+                events.add(line);
+            }
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+            if (ex != null) {
+                exceptions.add(ex);
+            }
+        }
+    };
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        logFile = tempDir.resolve("openhab.log");
+        Files.writeString(logFile, "old\n", Charset.defaultCharset());
+        tailer.registerListener(listener);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        tailer.stop();
+    }
+
+    private void append(String content) throws IOException {
+        Files.writeString(logFile, content, Charset.defaultCharset(), StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Appends lines until the tailer reads them, so it is known to read the file from its current end.
+     */
+    private void awaitTailing() throws IOException, InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            append("sync" + syncCount++ + "\n");
+            String event = events.poll(100, TimeUnit.MILLISECONDS);
+            if (event != null) {
+                assertThat(event, startsWith("sync"));
+                // wait for the remaining sync lines
+                while ((event = events.poll(100, TimeUnit.MILLISECONDS)) != null) {
+                    assertThat(event, startsWith("sync"));
+                }
+                return;
+            }
+        }
+        fail("File is not tailed");
+    }
+
+    private @Nullable String nextEvent() throws InterruptedException {
+        return events.poll(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void readsLinesAppendedAfterStart() throws FileReaderException, IOException, InterruptedException {
+        tailer.start(logFile.toString(), REFRESH_RATE);
+        awaitTailing();
+
+        append("first\r\nsecond\npart");
+        assertThat(nextEvent(), is("first"));
+        assertThat(nextEvent(), is("second"));
+        append("ial\n");
+        assertThat(nextEvent(), is("partial"));
+        assertTrue(exceptions.isEmpty(), exceptions.toString());
+    }
+
+    @Test
+    public void readsTruncatedFileFromItsBeginning() throws FileReaderException, IOException, InterruptedException {
+        tailer.start(logFile.toString(), REFRESH_RATE);
+        awaitTailing();
+
+        Files.writeString(logFile, "new\n", Charset.defaultCharset(), StandardOpenOption.TRUNCATE_EXISTING);
+        assertThat(nextEvent(), is(ROTATED));
+        assertThat(nextEvent(), is("new"));
+    }
+
+    @Test
+    public void readsRestOfRenamedFileBeforeNewFile() throws FileReaderException, IOException, InterruptedException {
+        tailer.start(logFile.toString(), REFRESH_RATE);
+        awaitTailing();
+
+        append("last\n");
+        Files.move(logFile, tempDir.resolve("openhab.log.1"));
+        Files.writeString(logFile, "first\n", Charset.defaultCharset());
+        assertThat(nextEvent(), is("last"));
+        assertThat(nextEvent(), is(ROTATED));
+        assertThat(nextEvent(), is("first"));
+    }
+
+    @Test
+    public void stoppedTailerDoesNotReportLines() throws FileReaderException, IOException, InterruptedException {
+        tailer.start(logFile.toString(), REFRESH_RATE);
+        awaitTailing();
+
+        tailer.stop();
+        append("ignored\n");
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+        assertTrue(exceptions.isEmpty(), exceptions.toString());
+    }
+
+    @Test
+    public void restartDoesNotReportExceptionOfStoppedTask()
+            throws FileReaderException, IOException, InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            tailer.start(logFile.toString(), REFRESH_RATE);
+            awaitTailing();
+            tailer.stop();
+        }
+        tailer.start(logFile.toString(), REFRESH_RATE);
+        awaitTailing();
+
+        append("line\n");
+        assertThat(nextEvent(), is("line"));
+        assertTrue(exceptions.isEmpty(), exceptions.toString());
+    }
+}
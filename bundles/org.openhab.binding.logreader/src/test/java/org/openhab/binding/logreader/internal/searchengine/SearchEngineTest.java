@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.regex.PatternSyntaxException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link SearchEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SearchEngineTest {
+
+    @Test
+    public void plainTextPatternsMatchLiterally() {
+        SearchEngine engine = new SearchEngine("ERROR|a-b", null);
+
+        assertTrue(engine.isMatching("2023-01-01 [ERROR] failure"));
+        assertTrue(engine.isMatching("xa-by"));
+        assertFalse(engine.isMatching("[WARN ] error"));
+        assertThat(engine.getMatchCount(), is(2L));
+    }
+
+    @Test
+    public void patternWithMetacharactersIsRegularExpression() {
+        SearchEngine engine = new SearchEngine("ERROR|1+1", null);
+
+        // as regular expression 1+1 matches two or more ones, but not the text 1+1
+        assertTrue(engine.isMatching("11"));
+        assertFalse(engine.isMatching("1+1"));
+        assertTrue(engine.isMatching("ERROR"));
+    }
+
+    @Test
+    public void emptyPatternIsNotTreatedAsLiteral() {
+        SearchEngine engine = new SearchEngine("|ERROR", null);
+
+        // the empty regular expression matches every line
+        assertTrue(engine.isMatching("INFO"));
+    }
+
+    @Test
+    public void inlineFlagsStayLocalToTheirPattern() {
+        SearchEngine engine = new SearchEngine("(?i)error|Warn", null);
+
+        assertTrue(engine.isMatching("ERROR"));
+        assertTrue(engine.isMatching("Warn"));
+        assertFalse(engine.isMatching("WARN"));
+    }
+
+    @Test
+    public void anchorsStayLocalToTheirPattern() {
+        SearchEngine engine = new SearchEngine("^start|end$", null);
+
+        assertTrue(engine.isMatching("start of line"));
+        assertTrue(engine.isMatching("line end"));
+        assertFalse(engine.isMatching("no start"));
+        assertFalse(engine.isMatching("end of line"));
+    }
+
+    @Test
+    public void patternsWithBackReferencesAreMatchedSeparately() {
+        SearchEngine engine = new SearchEngine("(a)\\1|x(b)\\1", null);
+
+        assertTrue(engine.isMatching("aa"));
+        assertTrue(engine.isMatching("xbb"));
+        assertFalse(engine.isMatching("xba"));
+    }
+
+    @Test
+    public void patternsWithSameNamedGroupAreMatchedSeparately() {
+        SearchEngine engine = new SearchEngine("(?<level>ERROR)|(?<level>WARN)", null);
+
+        assertTrue(engine.isMatching("ERROR"));
+        assertTrue(engine.isMatching("WARN"));
+        assertFalse(engine.isMatching("INFO"));
+    }
+
+    @Test
+    public void blacklistedLinesDoNotMatch() {
+        SearchEngine engine = new SearchEngine("ERROR|WARN", "ignored|skip.*me");
+
+        assertTrue(engine.isMatching("ERROR"));
+        assertFalse(engine.isMatching("ERROR ignored"));
+        assertFalse(engine.isMatching("WARN skip this me"));
+        assertThat(engine.getMatchCount(), is(1L));
+    }
+
+    @Test
+    public void invalidPatternIsRejected() {
+        assertThrows(PatternSyntaxException.class, () -> new SearchEngine("ERROR|(", null));
+    }
+}
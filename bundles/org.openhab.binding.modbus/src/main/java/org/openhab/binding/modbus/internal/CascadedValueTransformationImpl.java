@@ -15,10 +15,13 @@ package org.openhab.binding.modbus.internal;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.State;
 import org.osgi.framework.BundleContext;
 
 /**
@@ -31,6 +34,13 @@ import org.osgi.framework.BundleContext;
 @NonNullByDefault
 public class CascadedValueTransformationImpl implements ValueTransformation {
     private final List<SingleValueTransformation> transformations;
+    // transformations actually changing the value, identity transformations are skipped
+    private final List<SingleValueTransformation> effectiveTransformations;
+    private final boolean identityTransform;
+
+    private final AtomicLong transformCount = new AtomicLong();
+    private final AtomicLong transformNanos = new AtomicLong();
+    private final AtomicLong maxTransformNanos = new AtomicLong();
 
     public CascadedValueTransformationImpl(@Nullable String transformationString) {
         String transformationNonNull = transformationString == null ? "" : transformationString;
@@ -41,21 +51,72 @@ public class CascadedValueTransformationImpl implements ValueTransformation {
             localTransformations = Collections.singletonList(new SingleValueTransformation(transformationString));
         }
         transformations = localTransformations;
+        effectiveTransformations = localTransformations.stream().filter(t -> !t.isIdentityTransform())
+                .collect(Collectors.toList());
+        identityTransform = effectiveTransformations.isEmpty();
     }
 
     @Override
     public String transform(BundleContext context, String value) {
+        if (identityTransform) {
+            return value;
+        }
+        long start = System.nanoTime();
         String input = value;
         // process all transformations
-        for (final ValueTransformation transformation : transformations) {
+        for (final ValueTransformation transformation : effectiveTransformations) {
             input = transformation.transform(context, input);
         }
+        recordTransformTime(System.nanoTime() - start);
         return input;
     }
 
+    @Override
+    public @Nullable State transformState(BundleContext context, List<Class<? extends State>> types, State state) {
+        // Parsing the string of a state as its own type results in an equal state, so the first accepted type
+        // having the class of the state makes the round trip of the identity transformation unnecessary.
+        if (identityTransform && !types.isEmpty() && types.get(0) == state.getClass()) {
+            return state;
+        }
+        return ValueTransformation.super.transformState(context, types, state);
+    }
+
     @Override
     public boolean isIdentityTransform() {
-        return transformations.stream().allMatch(SingleValueTransformation::isIdentityTransform);
+        return identityTransform;
+    }
+
+    private void recordTransformTime(long nanos) {
+        transformCount.incrementAndGet();
+        transformNanos.addAndGet(nanos);
+        maxTransformNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of values transformed by transformation services (identity transformations are not counted).
+     */
+    public long getTransformCount() {
+        return transformCount.get();
+    }
+
+    /**
+     * Returns the average duration of transforming a value in microseconds.
+     */
+    public long getAverageTransformMicros() {
+        long count = transformCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(transformNanos.get() / count);
+    }
+
+    /**
+     * Returns the longest duration of transforming a value in microseconds.
+     */
+    public long getMaxTransformMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxTransformNanos.get());
+    }
+
+    public String getStatistics() {
+        return String.format("%d transformations, average %d µs, max %d µs", getTransformCount(),
+                getAverageTransformMicros(), getMaxTransformMicros());
     }
 
     @Override
@@ -30,6 +30,7 @@ import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
@@ -84,6 +85,12 @@ public class ModbusHandlerFactory extends BaseThingHandlerFactory {
         return null;
     }
 
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        super.deactivate(componentContext);
+        TransformationServiceCache.clearAll();
+    }
+
     @Reference
     public void setModbusManager(ModbusManager manager) {
         logger.debug("Setting manager: {}", manager);
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.transform.TransformationHelper;
+import org.openhab.core.transform.TransformationService;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of resolved {@link TransformationService}s, avoiding a service registry lookup for every transformed value.
+ *
+ * The cache listens to the transformation services of the service registry and is cleared whenever one of them is
+ * registered, modified or unregistered, so the next transformation resolves the service again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TransformationServiceCache implements ServiceListener {
+
+    private static final String TRANSFORMATION_SERVICE_FILTER = "(openhab.transform=*)";
+
+    private static final Map<BundleContext, TransformationServiceCache> CACHES = new ConcurrentHashMap<>();
+
+    private final Logger logger = LoggerFactory.getLogger(TransformationServiceCache.class);
+
+    private final BundleContext context;
+    // absent services are cached as well, registering them clears the cache
+    private final Map<String, Optional<TransformationService>> services = new HashMap<>();
+    private long generation;
+
+    private TransformationServiceCache(BundleContext context) {
+        this.context = context;
+        try {
+            context.addServiceListener(this, TRANSFORMATION_SERVICE_FILTER);
+        } catch (InvalidSyntaxException e) {
+            // cannot happen with a constant filter
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the cache of the transformation services available to the given bundle context.
+     */
+    public static TransformationServiceCache forContext(BundleContext context) {
+        return CACHES.computeIfAbsent(context, TransformationServiceCache::new);
+    }
+
+    /**
+     * Stops listening to the service registry and drops all cached services.
+     */
+    public static void clearAll() {
+        CACHES.values().forEach(TransformationServiceCache::close);
+        CACHES.clear();
+    }
+
+    /**
+     * Returns the transformation service with the given name.
+     *
+     * @param transformationServiceName name of the transformation service, e.g. REGEX
+     * @return the service or null if no such service is available
+     */
+    public @Nullable TransformationService getTransformationService(String transformationServiceName) {
+        long lookupGeneration;
+        synchronized (services) {
+            Optional<TransformationService> service = services.get(transformationServiceName);
+            if (service != null) {
+                return service.orElse(null);
+            }
+            lookupGeneration = generation;
+        }
+        // resolve outside of the lock, the service registry may call back into serviceChanged
+        @Nullable
+        TransformationService service = TransformationHelper.getTransformationService(context,
+                transformationServiceName);
+        synchronized (services) {
+            // do not cache a result which may have been outdated by a concurrent service change
+            if (lookupGeneration == generation) {
+                services.put(transformationServiceName, Optional.ofNullable(service));
+            }
+        }
+        return service;
+    }
+
+    @Override
+    public void serviceChanged(@Nullable ServiceEvent event) {
+        logger.trace("Transformation services changed, clearing cache");
+        synchronized (services) {
+            generation++;
+            services.clear();
+        }
+    }
+
+    private void close() {
+        try {
+            context.removeServiceListener(this);
+        } catch (IllegalStateException e) {
+            // bundle context is not valid anymore, the listener has been removed by the framework
+        }
+        synchronized (services) {
+            generation++;
+            services.clear();
+        }
+    }
+}
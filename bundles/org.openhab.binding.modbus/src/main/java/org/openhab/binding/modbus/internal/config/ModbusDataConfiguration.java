@@ -34,6 +34,7 @@ public class ModbusDataConfiguration {
     private boolean writeMultipleEvenWithSingleRegisterOrCoil;
     private int writeMaxTries = 3; // backwards compatibility and tests
     private long updateUnchangedValuesEveryMillis = 1000L;
+    private boolean skipUnchangedData;
 
     public @Nullable String getReadStart() {
         return readStart;
@@ -114,4 +115,12 @@ public class ModbusDataConfiguration {
     public void setUpdateUnchangedValuesEveryMillis(long updateUnchangedValuesEveryMillis) {
         this.updateUnchangedValuesEveryMillis = updateUnchangedValuesEveryMillis;
     }
+
+    public boolean isSkipUnchangedData() {
+        return skipUnchangedData;
+    }
+
+    public void setSkipUnchangedData(boolean skipUnchangedData) {
+        this.skipUnchangedData = skipUnchangedData;
+    }
 }
@@ -142,6 +142,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
     private volatile long updateUnchangedValuesEveryMillis;
+    private volatile boolean skipUnchangedData;
+    // registers or bit the value was extracted from on the last processed poll, see skipUnchangedData
+    private int @Nullable [] lastReadRegisters;
+    private @Nullable Boolean lastReadBit;
+    private long lastReadProcessedMillis;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
@@ -403,6 +408,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             logger.trace("initialize() of thing {} '{}' starting", thing.getUID(), thing.getLabel());
             ModbusDataConfiguration localConfig = config = getConfigAs(ModbusDataConfiguration.class);
             updateUnchangedValuesEveryMillis = localConfig.getUpdateUnchangedValuesEveryMillis();
+            skipUnchangedData = localConfig.isSkipUnchangedData();
             Bridge bridge = getBridge();
             if (bridge == null || !bridge.getStatus().equals(ThingStatus.ONLINE)) {
                 logger.debug("Thing {} '{}' has no bridge or it is not online", getThing().getUID(),
@@ -458,8 +464,25 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
     }
 
+    private void logTransformationStatistics() {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+        CascadedValueTransformationImpl localReadTransformation = readTransformation;
+        CascadedValueTransformationImpl localWriteTransformation = writeTransformation;
+        if (localReadTransformation != null && localReadTransformation.getTransformCount() > 0) {
+            logger.debug("Thing {} read transformation statistics: {}", getThing().getUID(),
+                    localReadTransformation.getStatistics());
+        }
+        if (localWriteTransformation != null && localWriteTransformation.getTransformCount() > 0) {
+            logger.debug("Thing {} write transformation statistics: {}", getThing().getUID(),
+                    localWriteTransformation.getStatistics());
+        }
+    }
+
     @Override
     public synchronized void dispose() {
+        logTransformationStatistics();
         config = null;
         readValueType = null;
         writeValueType = null;
@@ -484,6 +507,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        skipUnchangedData = false;
+        lastReadRegisters = null;
+        lastReadBit = null;
+        lastReadProcessedMillis = 0L;
     }
 
     @Override
@@ -841,6 +868,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             int itemsPerRegister = 16 / readValueType.getBits();
             extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
         }
+        if (isUnchanged(registers, readIndex.get() - pollStart, Math.max(1, readValueType.getBits() / 16))) {
+            logger.trace("Thing {} registers unchanged since last update, skipping", thing.getUID());
+            return;
+        }
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
@@ -858,6 +889,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             return;
         }
         boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+        if (isUnchanged(boolValue)) {
+            logger.trace("Thing {} bit unchanged since last update, skipping", thing.getUID());
+            return;
+        }
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
         Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
         logger.debug(
@@ -865,6 +900,62 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
     }
 
+    /**
+     * With {@code skipUnchangedData}, checks whether the registers holding the value are identical to the ones of the
+     * last processed poll. Unchanged registers are processed anyway once {@code updateUnchangedValuesEveryMillis} has
+     * passed.
+     *
+     * @param registers polled registers
+     * @param first index of the first register holding the value
+     * @param count number of registers holding the value
+     * @return true if processing the registers can be skipped
+     */
+    private boolean isUnchanged(ModbusRegisterArray registers, int first, int count) {
+        if (!skipUnchangedData || first < 0 || first + count > registers.size()) {
+            return false;
+        }
+        int[] last = lastReadRegisters;
+        boolean unchanged = false;
+        if (last != null && last.length == count) {
+            unchanged = true;
+            for (int i = 0; unchanged && i < count; i++) {
+                unchanged = registers.getRegister(first + i) == last[i];
+            }
+        } else {
+            last = new int[count];
+            lastReadRegisters = last;
+        }
+        long now = System.currentTimeMillis();
+        if (unchanged && !isUnchangedDataExpired(now)) {
+            return true;
+        }
+        for (int i = 0; i < count; i++) {
+            last[i] = registers.getRegister(first + i);
+        }
+        lastReadProcessedMillis = now;
+        return false;
+    }
+
+    /**
+     * Bit counterpart of {@link #isUnchanged(ModbusRegisterArray, int, int)}.
+     */
+    private boolean isUnchanged(boolean bit) {
+        if (!skipUnchangedData) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        if (Boolean.valueOf(bit).equals(lastReadBit) && !isUnchangedDataExpired(now)) {
+            return true;
+        }
+        lastReadBit = bit;
+        lastReadProcessedMillis = now;
+        return false;
+    }
+
+    private boolean isUnchangedDataExpired(long now) {
+        return updateUnchangedValuesEveryMillis <= 0L || now - lastReadProcessedMillis > updateUnchangedValuesEveryMillis;
+    }
+
     private synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
         if (hasConfigurationError()) {
             return;
@@ -883,6 +974,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                     getThing().getUID(), getThing().getLabel(), error.getClass().getName(), error.toString(),
                     error.getMessage(), error);
         }
+        // process the next successful read regardless of its data, it brings the thing back online
+        lastReadRegisters = null;
+        lastReadBit = null;
         Map<ChannelUID, State> states = new HashMap<>();
         ChannelUID lastReadErrorUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_ERROR);
         if (isLinked(lastReadErrorUID)) {
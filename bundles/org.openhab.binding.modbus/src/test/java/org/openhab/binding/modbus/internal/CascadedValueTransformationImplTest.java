@@ -13,11 +13,26 @@
 package org.openhab.binding.modbus.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.transform.TransformationException;
+import org.openhab.core.transform.TransformationService;
+import org.openhab.core.types.State;
 import org.osgi.framework.BundleContext;
+import org.osgi.framework.InvalidSyntaxException;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+import org.osgi.framework.ServiceReference;
 
 /**
  * @author Sami Salonen - Initial contribution
@@ -77,4 +92,40 @@ public class CascadedValueTransformationImplTest {
         assertFalse(transformation.isIdentityTransform());
         assertEquals("static", transformation.transform(Mockito.mock(BundleContext.class), "xx"));
     }
+
+    @Test
+    public void testIdentityTransformationKeepsStateOfFirstAcceptedType() {
+        CascadedValueTransformationImpl transformation = new CascadedValueTransformationImpl("default");
+        BundleContext context = Mockito.mock(BundleContext.class);
+        DecimalType state = new DecimalType(17.5);
+
+        assertSame(state, transformation.transformState(context, List.of(DecimalType.class, QuantityType.class), state));
+        assertEquals(new PercentType("17.5"), transformation.transformState(context, List.of(PercentType.class), state));
+        assertEquals(0, transformation.getTransformCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTransformationServiceIsResolvedOnce() throws InvalidSyntaxException, TransformationException {
+        BundleContext context = Mockito.mock(BundleContext.class);
+        ServiceReference<TransformationService> reference = Mockito.mock(ServiceReference.class);
+        TransformationService service = Mockito.mock(TransformationService.class);
+        when(context.getServiceReferences(eq(TransformationService.class), anyString())).thenReturn(List.of(reference));
+        when(context.getService(reference)).thenReturn(service);
+        when(service.transform(eq("x2"), anyString())).thenAnswer(
+                invocation -> String.valueOf(2 * Integer.parseInt(invocation.getArgument(1, String.class))));
+
+        CascadedValueTransformationImpl transformation = new CascadedValueTransformationImpl("MULTIPLY(x2)∩default");
+        assertEquals("4", transformation.transform(context, "2"));
+        assertEquals("6", transformation.transform(context, "3"));
+        verify(context, times(1)).getServiceReferences(eq(TransformationService.class), anyString());
+        assertEquals(2, transformation.getTransformCount());
+
+        // a change of the transformation services invalidates the cache
+        ArgumentCaptor<ServiceListener> listener = ArgumentCaptor.forClass(ServiceListener.class);
+        verify(context).addServiceListener(listener.capture(), anyString());
+        listener.getValue().serviceChanged(new ServiceEvent(ServiceEvent.UNREGISTERING, reference));
+        assertEquals("8", transformation.transform(context, "4"));
+        verify(context, times(2)).getServiceReferences(eq(TransformationService.class), anyString());
+    }
 }
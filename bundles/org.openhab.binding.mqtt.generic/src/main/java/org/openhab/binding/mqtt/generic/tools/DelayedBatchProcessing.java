@@ -13,11 +13,14 @@
 package org.openhab.binding.mqtt.generic.tools;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
@@ -25,47 +28,95 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
 /**
- * Collects objects over time until a specified delay passed by.
+ * Collects objects over time until a specified delay passed by without new objects.
  * Then call the user back with a list of accumulated objects and start over again.
  *
+ * A batch is also delivered when it is older than a maximum delay or reached a maximum size, so a long burst of
+ * objects is processed while it still arrives. Adding objects does not wait for the consumer, and only one timer is
+ * scheduled per batch.
+ *
  * @author David Graeff - Initial contribution
  *
  * @param <T> Any object
  */
 @NonNullByDefault
 public class DelayedBatchProcessing<T> implements Consumer<T> {
-    private final int delay;
+    private final long delayNanos;
+    private final long maxDelayNanos;
+    private final int maxBatchSize;
     private final Consumer<List<T>> consumer;
-    private final List<T> queue = Collections.synchronizedList(new ArrayList<>());
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    // set while a run triggered by the batch size is pending, so a burst schedules only one run
+    private final AtomicBoolean runRequested = new AtomicBoolean();
     private final ScheduledExecutorService executor;
     protected final AtomicReference<@Nullable ScheduledFuture<?>> futureRef = new AtomicReference<>();
+    // guards arming, re-arming and disarming of the timer
+    private final Object timerLock = new Object();
+    private volatile boolean armed;
+    // identifies the batch a scheduled timer belongs to, a timer of a disarmed batch must not re-arm itself
+    private long timerGeneration;
+    private volatile long batchStartNanos;
+    private volatile long lastAcceptNanos;
 
     /**
-     * Creates a {@link DelayedBatchProcessing}.
+     * Creates a {@link DelayedBatchProcessing} delivering the objects once no new object was added for the given
+     * delay.
      *
      * @param delay A delay in milliseconds
      * @param consumer A consumer of the list of collected objects
      * @param executor A scheduled executor service
      */
     public DelayedBatchProcessing(int delay, Consumer<List<T>> consumer, ScheduledExecutorService executor) {
-        this.delay = delay;
-        this.consumer = consumer;
-        this.executor = executor;
+        this(delay, Integer.MAX_VALUE, Integer.MAX_VALUE, consumer, executor);
+    }
+
+    /**
+     * Creates a {@link DelayedBatchProcessing}.
+     *
+     * @param delay A delay in milliseconds. The objects are delivered once no new object was added for this time.
+     * @param maxDelay A delay in milliseconds. The objects are delivered at the latest this time after the first
+     *            object of the batch was added.
+     * @param maxBatchSize The objects are delivered as soon as this number of objects has been added
+     * @param consumer A consumer of the list of collected objects
+     * @param executor A scheduled executor service
+     */
+    public DelayedBatchProcessing(int delay, int maxDelay, int maxBatchSize, Consumer<List<T>> consumer,
+            ScheduledExecutorService executor) {
         if (delay <= 0) {
             throw new IllegalArgumentException("Delay need to be greater than 0!");
         }
+        if (maxDelay < delay) {
+            throw new IllegalArgumentException("Maximum delay need to be greater than or equal to the delay!");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Maximum batch size need to be greater than 0!");
+        }
+        this.delayNanos = TimeUnit.MILLISECONDS.toNanos(delay);
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelay);
+        this.maxBatchSize = maxBatchSize;
+        this.consumer = consumer;
+        this.executor = executor;
     }
 
     /**
-     * Add new object to the batch process list. Every time a new object is received,
-     * the delay timer is rescheduled.
+     * Add new object to the batch process list. The first object of a batch starts the delay timer, which is
+     * extended while new objects are received.
      *
      * @param t An object
      */
     @Override
     public void accept(T t) {
+        long now = System.nanoTime();
+        lastAcceptNanos = now;
         queue.add(t);
-        cancel(futureRef.getAndSet(executor.schedule(this::run, delay, TimeUnit.MILLISECONDS)));
+        if (queueSize.incrementAndGet() >= maxBatchSize) {
+            if (runRequested.compareAndSet(false, true)) {
+                executor.execute(this::run);
+            }
+        } else if (!armed) {
+            arm(now);
+        }
     }
 
     /**
@@ -74,43 +125,88 @@ public class DelayedBatchProcessing<T> implements Consumer<T> {
      * @return A list of accumulated objects
      */
     public List<T> join() {
-        cancel(futureRef.getAndSet(null));
-        List<T> lqueue = new ArrayList<>();
-        synchronized (queue) {
-            lqueue.addAll(queue);
-            queue.clear();
-        }
-        return lqueue;
+        disarm();
+        return drain();
     }
 
     /**
      * Return true if there is a delayed processing going on.
      */
     public boolean isArmed() {
-        ScheduledFuture<?> scheduledFuture = this.futureRef.get();
-        return scheduledFuture != null && !scheduledFuture.isDone();
+        return armed;
     }
 
     /**
      * Deliver queued items now to the target consumer.
      */
     public void forceProcessNow() {
-        cancel(futureRef.getAndSet(null));
+        disarm();
         run();
     }
 
-    private void run() {
-        List<T> lqueue = new ArrayList<>();
-        synchronized (queue) {
-            lqueue.addAll(queue);
-            queue.clear();
+    private void arm(long now) {
+        synchronized (timerLock) {
+            if (armed) {
+                return;
+            }
+            armed = true;
+            batchStartNanos = now;
+            long generation = ++timerGeneration;
+            cancel(futureRef.getAndSet(
+                    executor.schedule(() -> timerElapsed(generation), delayNanos, TimeUnit.NANOSECONDS)));
         }
+    }
+
+    private void timerElapsed(long generation) {
+        synchronized (timerLock) {
+            if (!armed || generation != timerGeneration) {
+                // the batch has been disarmed in the meantime
+                return;
+            }
+            long now = System.nanoTime();
+            long quietNanos = now - lastAcceptNanos;
+            long batchAgeNanos = now - batchStartNanos;
+            if (quietNanos < delayNanos && batchAgeNanos < maxDelayNanos) {
+                // objects are still arriving, wait for the end of the burst but not longer than the maximum delay
+                long waitNanos = Math.min(delayNanos - quietNanos, maxDelayNanos - batchAgeNanos);
+                futureRef.set(executor.schedule(() -> timerElapsed(generation), waitNanos, TimeUnit.NANOSECONDS));
+                return;
+            }
+            // disarm before draining, so objects added from now on start a new batch
+            armed = false;
+            futureRef.set(null);
+        }
+        run();
+    }
 
+    private void disarm() {
+        synchronized (timerLock) {
+            armed = false;
+            timerGeneration++;
+            cancel(futureRef.getAndSet(null));
+        }
+    }
+
+    private synchronized void run() {
+        // cleared before draining, so objects added from now on can request the next run
+        runRequested.set(false);
+        batchStartNanos = System.nanoTime();
+        List<T> lqueue = drain();
         if (!lqueue.isEmpty()) {
             consumer.accept(lqueue);
         }
     }
 
+    private List<T> drain() {
+        List<T> lqueue = new ArrayList<>();
+        T t;
+        while ((t = queue.poll()) != null) {
+            lqueue.add(t);
+            queueSize.decrementAndGet();
+        }
+        return lqueue;
+    }
+
     private static void cancel(@Nullable ScheduledFuture<?> future) {
         if (future != null) {
             future.cancel(false);
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic.tools;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the delivery of batches by {@link DelayedBatchProcessing}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class DelayedBatchProcessingTest {
+    private final AtomicInteger executedRuns = new AtomicInteger();
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1) {
+        @Override
+        public void execute(Runnable command) {
+            executedRuns.incrementAndGet();
+            super.execute(command);
+        }
+    };
+    private final BlockingQueue<List<String>> batches = new LinkedBlockingQueue<>();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void deliversBatchOnceNoObjectWasAddedForTheDelay() throws InterruptedException {
+        DelayedBatchProcessing<String> processing = new DelayedBatchProcessing<>(50, batches::add, executor);
+
+        processing.accept("a");
+        processing.accept("b");
+        assertTrue(processing.isArmed());
+
+        assertThat(batches.poll(5, TimeUnit.SECONDS), is(List.of("a", "b")));
+        assertFalse(processing.isArmed());
+    }
+
+    @Test
+    public void deliversBatchOnceMaxBatchSizeIsReached() throws InterruptedException {
+        DelayedBatchProcessing<String> processing = new DelayedBatchProcessing<>(60000, 60000, 3, batches::add,
+                executor);
+
+        processing.accept("a");
+        processing.accept("b");
+        assertNull(batches.poll(100, TimeUnit.MILLISECONDS));
+        processing.accept("c");
+
+        assertThat(batches.poll(5, TimeUnit.SECONDS), is(List.of("a", "b", "c")));
+    }
+
+    @Test
+    public void burstSchedulesSingleRunOnceMaxBatchSizeIsReached() throws InterruptedException {
+        DelayedBatchProcessing<String> processing = new DelayedBatchProcessing<>(60000, 60000, 100, batches::add,
+                executor);
+        // keep the executor busy, so the burst is complete before the requested run starts
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executedRuns.set(0);
+
+        for (int i = 0; i < 5000; i++) {
+            processing.accept("o" + i);
+        }
+        assertThat(executedRuns.get(), is(1));
+        release.countDown();
+
+        List<String> batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertThat(batch.size(), is(5000));
+        assertNull(batches.poll(300, TimeUnit.MILLISECONDS));
+
+        // the next batch reaching the maximum size requests a new run
+        for (int i = 0; i < 100; i++) {
+            processing.accept("n" + i);
+        }
+        batch = batches.poll(5, TimeUnit.SECONDS);
+        assertNotNull(batch);
+        assertThat(batch.size(), is(100));
+        assertThat(executedRuns.get(), is(2));
+    }
+
+    @Test
+    public void deliversBatchOnceMaxDelayIsReachedWhileObjectsKeepArriving() throws InterruptedException {
+        DelayedBatchProcessing<String> processing = new DelayedBatchProcessing<>(200, 500, Integer.MAX_VALUE,
+                batches::add, executor);
+
+        long start = System.nanoTime();
+        List<String> batch = null;
+        // objects arrive faster than the delay, only the maximum delay ends the batch
+        for (int i = 0; batch == null && i < 100; i++) {
+            processing.accept("o" + i);
+            batch = batches.poll(50, TimeUnit.MILLISECONDS);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertNotNull(batch);
+        assertThat(batch.get(0), is("o0"));
+        assertTrue(elapsedMillis >= 500, "Batch delivered after " + elapsedMillis + " ms");
+        assertTrue(elapsedMillis < 3000, "Batch delivered after " + elapsedMillis + " ms");
+    }
+
+    @Test
+    public void joinReturnsObjectsWithoutDeliveringThem() throws InterruptedException {
+        DelayedBatchProcessing<String> processing = new DelayedBatchProcessing<>(50, batches::add, executor);
+
+        processing.accept("a");
+        assertThat(processing.join(), is(List.of("a")));
+        assertFalse(processing.isArmed());
+
+        assertNull(batches.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void objectsAddedAfterJoinStartNewBatch() throws InterruptedException {
+        DelayedBatchProcessing<String> processing = new DelayedBatchProcessing<>(50, batches::add, executor);
+
+        processing.accept("a");
+        processing.join();
+        processing.accept("b");
+
+        assertThat(batches.poll(5, TimeUnit.SECONDS), is(List.of("b")));
+        assertNull(batches.poll(300, TimeUnit.MILLISECONDS));
+    }
+}
@@ -84,6 +84,9 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
     public static final String AVAILABILITY_CHANNEL = "availability";
     private static final Comparator<Channel> CHANNEL_COMPARATOR_BY_UID = Comparator
             .comparing(channel -> channel.getUID().toString());;
+    // discovered components are added to the thing at least every few delays and in batches of limited size
+    private static final int MAX_DISCOVERY_DELAY_FACTOR = 5;
+    private static final int MAX_DISCOVERY_BATCH_SIZE = 100;
 
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantThingHandler.class);
 
@@ -119,7 +122,8 @@ public class HomeAssistantThingHandler extends AbstractMQTTThingHandler
         this.channelTypeProvider = channelTypeProvider;
         this.transformationServiceProvider = transformationServiceProvider;
         this.attributeReceiveTimeout = attributeReceiveTimeout;
-        this.delayedProcessing = new DelayedBatchProcessing<>(attributeReceiveTimeout, this, scheduler);
+        this.delayedProcessing = new DelayedBatchProcessing<>(attributeReceiveTimeout,
+                attributeReceiveTimeout * MAX_DISCOVERY_DELAY_FACTOR, MAX_DISCOVERY_BATCH_SIZE, this, scheduler);
         this.discoverComponents = new DiscoverComponents(thing.getUID(), scheduler, this, this, gson,
                 this.transformationServiceProvider);
     }
@@ -50,6 +50,9 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class HomieThingHandler extends AbstractMQTTThingHandler implements DeviceCallback, Consumer<List<Object>> {
+    // discovered nodes and properties are added to the thing at least every few delays and in batches of limited size
+    private static final int MAX_DISCOVERY_DELAY_FACTOR = 5;
+    private static final int MAX_DISCOVERY_BATCH_SIZE = 100;
     private final Logger logger = LoggerFactory.getLogger(HomieThingHandler.class);
     protected Device device;
     protected final MqttChannelTypeProvider channelTypeProvider;
@@ -80,7 +83,8 @@ public class HomieThingHandler extends AbstractMQTTThingHandler implements Devic
         this.deviceTimeout = deviceTimeout;
         this.subscribeTimeout = subscribeTimeout;
         this.attributeReceiveTimeout = attributeReceiveTimeout;
-        this.delayedProcessing = new DelayedBatchProcessing<>(subscribeTimeout, this, scheduler);
+        this.delayedProcessing = new DelayedBatchProcessing<>(subscribeTimeout,
+                subscribeTimeout * MAX_DISCOVERY_DELAY_FACTOR, MAX_DISCOVERY_BATCH_SIZE, this, scheduler);
         this.device = new Device(this.thing.getUID(), this, new DeviceAttributes());
     }
 
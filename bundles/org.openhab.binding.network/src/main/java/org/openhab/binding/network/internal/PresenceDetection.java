@@ -32,11 +32,13 @@ import org.openhab.binding.network.internal.dhcp.DHCPListenService;
 import org.openhab.binding.network.internal.dhcp.DHCPPacketListenerServer;
 import org.openhab.binding.network.internal.dhcp.IPRequestReceivedCallback;
 import org.openhab.binding.network.internal.toberemoved.cache.ExpiringCacheAsync;
+import org.openhab.binding.network.internal.utils.LatencyHistogram;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
 import org.openhab.core.cache.ExpiringCache;
+import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +55,8 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private static final int DESTINATION_TTL = 300 * 1000; // in ms, 300 s
 
     NetworkUtils networkUtils = new NetworkUtils();
+    // runs the completion of TCP connection attempts, which must not block the selector thread
+    ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
     /// Configuration variables
@@ -74,6 +78,8 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private boolean preferResponseTimeAsLatency;
 
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+
     /// State variables (cannot be final because of test dependency injections)
     ExpiringCacheAsync<PresenceDetectionValue> cache;
     private final PresenceDetectionListener updateListener;
@@ -253,6 +259,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(callback);
     }
 
+    /**
+     * Return the latencies of all finished presence detections.
+     */
+    public LatencyHistogram getLatencyHistogram() {
+        return latencyHistogram;
+    }
+
     public ExecutorService getThreadsFor(int threadCount) {
         return Executors.newFixedThreadPool(threadCount);
     }
@@ -260,7 +273,8 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     /**
      * Perform a presence detection with ICMP-, ARP ping and
      * TCP connection attempts simultaneously. A fixed thread pool will be created with as many
-     * thread as necessary to perform all tests at once.
+     * thread as necessary to perform all ICMP and ARP pings at once. TCP connection attempts do
+     * not need a thread, they are performed by the selector shared by all presence detections.
      *
      * This is a NO-OP, if there is already an ongoing detection or if the cached value
      * is not expired yet.
@@ -288,28 +302,26 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         Set<String> interfaceNames = null;
 
         currentCheck = 0;
-        detectionChecks = tcpPorts.size();
+        int threadChecks = 0;
         if (pingMethod != null) {
-            detectionChecks += 1;
+            threadChecks += 1;
         }
         if (arpPingMethod.canProceed) {
             interfaceNames = networkUtils.getInterfaceNames();
-            detectionChecks += interfaceNames.size();
+            threadChecks += interfaceNames.size();
         }
+        detectionChecks = threadChecks + tcpPorts.size();
 
         if (detectionChecks == 0) {
             return false;
         }
 
-        final ExecutorService executorService = getThreadsFor(detectionChecks);
+        // The executor also marks the ongoing detection, threads are only started for submitted checks
+        final ExecutorService executorService = getThreadsFor(Math.max(1, threadChecks));
         this.executorService = executorService;
 
         for (Integer tcpPort : tcpPorts) {
-            executorService.execute(() -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + String.valueOf(tcpPort));
-                performServicePing(tcpPort);
-                checkIfFinished();
-            });
+            performServicePing(tcpPort);
         }
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
@@ -382,8 +394,11 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.setValue(v);
 
         if (!v.isReachable()) {
+            latencyHistogram.recordUnreachable();
             // if target can't be reached, check if name resolution need to be updated
             destination.invalidateValue();
+        } else {
+            latencyHistogram.record(v.getLowestLatency());
         }
         updateListener.finalDetectionResult(v);
     }
@@ -402,6 +417,17 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         submitFinalResult();
     }
 
+    /**
+     * Like {@link #checkIfFinished()}, but ignores checks of an already finished presence detection.
+     *
+     * @param detection The executor of the presence detection the check belongs to
+     */
+    private synchronized void checkIfFinished(@Nullable ExecutorService detection) {
+        if (detection != null && detection == executorService) {
+            checkIfFinished();
+        }
+    }
+
     /**
      * Waits for the presence detection threads to finish. Returns immediately
      * if no presence detection is performed right now.
@@ -447,24 +473,33 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         return v;
     }
 
+    /**
+     * Starts a TCP connection attempt to the given port. The check is finished when the attempt completes,
+     * the calling thread is not blocked. The result is processed by the scheduler, so listeners are not called by the
+     * selector thread shared by all presence detections.
+     *
+     * @param tcpPort The TCP port
+     */
     protected void performServicePing(int tcpPort) {
         logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
-        try {
-            InetAddress destinationAddress = destination.getValue();
-            if (destinationAddress != null) {
-                networkUtils.servicePing(destinationAddress.getHostAddress(), tcpPort, timeoutInMS).ifPresent(o -> {
-                    if (o.isSuccess()) {
-                        PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
-                                getLatency(o, preferResponseTimeAsLatency));
-                        v.addReachableTcpService(tcpPort);
-                        updateListener.partialDetectionResult(v);
-                    }
-                });
-            }
-        } catch (IOException e) {
-            // This should not happen and might be a user configuration issue, we log a warning message therefore.
-            logger.warn("Could not create a socket connection", e);
+        final ExecutorService detection = executorService;
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            checkIfFinished(detection);
+            return;
         }
+        networkUtils.servicePingAsync(destinationAddress, tcpPort, timeoutInMS).whenCompleteAsync((o, e) -> {
+            if (e != null) {
+                // This should not happen and might be a user configuration issue, we log a warning message therefore.
+                logger.warn("Could not create a socket connection", e);
+            } else if (o != null && o.isSuccess()) {
+                PresenceDetectionValue v = updateReachableValue(PresenceDetectionType.TCP_CONNECTION,
+                        getLatency(o, preferResponseTimeAsLatency));
+                v.addReachableTcpService(tcpPort);
+                updateListener.partialDetectionResult(v);
+            }
+            checkIfFinished(detection);
+        }, scheduler);
     }
 
     /**
@@ -32,6 +32,7 @@ import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.utils.LatencyHistogram;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -67,6 +68,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     private Set<Integer> tcpServicePorts = Collections
             .unmodifiableSet(Stream.of(80, 548, 554, 1025).collect(Collectors.toSet()));
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
+    private final LatencyHistogram scanLatencies = new LatencyHistogram();
     private @Nullable ExecutorService executorService = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
@@ -118,6 +120,11 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
     @Override
     public void finalDetectionResult(PresenceDetectionValue value) {
+        if (value.isReachable()) {
+            scanLatencies.record(value.getLowestLatency());
+        } else {
+            scanLatencies.recordUnreachable();
+        }
     }
 
     /**
@@ -137,6 +144,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
         scannedIPcount.set(0);
+        scanLatencies.reset();
 
         for (String ip : networkIPs) {
             final PresenceDetection s = new PresenceDetection(this, 2000);
@@ -144,8 +152,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
             s.setIOSDevice(true);
             s.setUseDhcpSniffing(false);
             s.setTimeout(PING_TIMEOUT_IN_MS);
-            // Ping devices
-            s.setUseIcmpPing(true);
+            // Ping devices, without system pings the Java ping is used instead of forking a process per device
+            s.setUseIcmpPing(configuration.allowSystemPings);
             s.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
             // TCP devices
             s.setServicePorts(tcpServicePorts);
@@ -155,7 +163,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                 s.performPresenceDetection(true);
                 int count = scannedIPcount.incrementAndGet();
                 if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
+                    logger.trace("Scan of {} IPs successful, latencies: {}", scannedIPcount, scanLatencies);
                     stopScan();
                 }
             });
@@ -152,6 +152,8 @@ public class NetworkHandler extends BaseThingHandler
                     ZonedDateTime.ofInstant(instant, TimeZone.getDefault().toZoneId()).withFixedOffsetZone()));
         }
 
+        logger.trace("Latencies of {}: {}", handlerConfiguration.hostname, presenceDetection.getLatencyHistogram());
+
         updateNetworkProperties();
     }
 
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Counts latencies in fixed buckets, from up to 1 ms to more than 5 s, and the number of unsuccessful detections.
+ * Recording is thread safe and does not allocate, so it can be done for every presence detection.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogram {
+    private static final double[] BUCKET_LIMITS_IN_MS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+    // the last bucket counts all latencies above the highest limit
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_LIMITS_IN_MS.length + 1);
+    private final AtomicLong unreachable = new AtomicLong();
+
+    /**
+     * Records the latency of a successful presence detection.
+     *
+     * @param latencyInMS The latency in ms
+     */
+    public void record(double latencyInMS) {
+        int bucket = 0;
+        while (bucket < BUCKET_LIMITS_IN_MS.length && latencyInMS > BUCKET_LIMITS_IN_MS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+    }
+
+    /**
+     * Records an unsuccessful presence detection.
+     */
+    public void recordUnreachable() {
+        unreachable.incrementAndGet();
+    }
+
+    /**
+     * Return the number of recorded latencies.
+     */
+    public long getCount() {
+        long count = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Return the number of recorded unsuccessful presence detections.
+     */
+    public long getUnreachableCount() {
+        return unreachable.get();
+    }
+
+    /**
+     * Return the upper limit of the bucket containing the given percentile of the recorded latencies.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The upper bucket limit in ms, {@link Double#POSITIVE_INFINITY} for the highest bucket and
+     *         {@link Double#NaN} if no latency was recorded.
+     */
+    public double getPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_LIMITS_IN_MS.length; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return BUCKET_LIMITS_IN_MS[i];
+            }
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, 0);
+        }
+        unreachable.set(0);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("LatencyHistogram{");
+        for (int i = 0; i < buckets.length(); i++) {
+            long value = buckets.get(i);
+            if (value == 0) {
+                continue;
+            }
+            if (i < BUCKET_LIMITS_IN_MS.length) {
+                builder.append("<=").append((int) BUCKET_LIMITS_IN_MS[i]);
+            } else {
+                builder.append('>').append((int) BUCKET_LIMITS_IN_MS[BUCKET_LIMITS_IN_MS.length - 1]);
+            }
+            builder.append("ms=").append(value).append(", ");
+        }
+        return builder.append("unreachable=").append(unreachable.get()).append('}').toString();
+    }
+}
@@ -15,19 +15,14 @@ package org.openhab.binding.network.internal.utils;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.net.ConnectException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.NetworkInterface;
-import java.net.NoRouteToHostException;
 import java.net.PortUnreachableException;
-import java.net.Socket;
-import java.net.SocketAddress;
 import java.net.SocketException;
-import java.net.SocketTimeoutException;
 import java.net.UnknownHostException;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -37,6 +32,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -176,25 +172,17 @@ public class NetworkUtils {
     }
 
     /**
-     * Try to establish a tcp connection to the given port. Returns false if a timeout occurred
-     * or the connection was denied.
+     * Try to establish a tcp connection to the given port. The result is unsuccessful if a timeout occurred
+     * or the connection was denied. The connection attempt does not block the calling thread, all attempts are
+     * performed by the shared {@link TcpProbeSelector}.
      *
-     * @param host The IP or hostname
+     * @param address The IP address
      * @param port The tcp port. Must be not 0.
      * @param timeout Timeout in ms
-     * @return Ping result information. Optional is empty if ping command was not executed.
-     * @throws IOException
+     * @return A future completed with the ping result, or exceptionally if the connection could not be attempted.
      */
-    public Optional<PingResult> servicePing(String host, int port, int timeout) throws IOException {
-        double execStartTimeInMS = System.currentTimeMillis();
-
-        SocketAddress socketAddress = new InetSocketAddress(host, port);
-        try (Socket socket = new Socket()) {
-            socket.connect(socketAddress, timeout);
-            return Optional.of(new PingResult(true, System.currentTimeMillis() - execStartTimeInMS));
-        } catch (ConnectException | SocketTimeoutException | NoRouteToHostException ignored) {
-            return Optional.of(new PingResult(false, System.currentTimeMillis() - execStartTimeInMS));
-        }
+    public CompletableFuture<PingResult> servicePingAsync(InetAddress address, int port, int timeout) {
+        return TcpProbeSelector.getInstance().probe(new InetSocketAddress(address, port), timeout);
     }
 
     /**
@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Performs TCP connection attempts ("service pings") without blocking a thread per attempt. All connection attempts
+ * are driven by a single selector thread, which is started on demand and ends as soon as no attempt is in progress.
+ *
+ * The number of simultaneously open connection attempts is limited, further attempts are queued. The timeout of a
+ * queued attempt starts when the connection attempt is actually made.
+ *
+ * Result futures are completed on the selector thread, dependent actions must therefore be short.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpProbeSelector {
+    private static final int MAX_PENDING_CONNECTS = 256;
+    private static final TcpProbeSelector INSTANCE = new TcpProbeSelector();
+
+    private final Logger logger = LoggerFactory.getLogger(TcpProbeSelector.class);
+
+    private final Queue<Probe> queuedProbes = new ConcurrentLinkedQueue<>();
+
+    // guarded by this, a selector belongs to exactly one selector thread
+    private @Nullable Selector selector;
+    // only accessed by the selector thread, cancelled keys stay registered until the next select
+    private int pendingProbes;
+
+    private static class Probe {
+        final InetSocketAddress address;
+        final long timeoutInNS;
+        final CompletableFuture<PingResult> result = new CompletableFuture<>();
+        long startTimeInNS;
+
+        Probe(InetSocketAddress address, long timeoutInNS) {
+            this.address = address;
+            this.timeoutInNS = timeoutInNS;
+        }
+
+        void complete(boolean success) {
+            result.complete(new PingResult(success, (System.nanoTime() - startTimeInNS) / 1000000.0));
+        }
+    }
+
+    /**
+     * Returns the instance shared by all presence detections.
+     */
+    public static TcpProbeSelector getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Tries to establish a TCP connection to the given address. The connection is closed immediately if it could be
+     * established.
+     *
+     * @param address The resolved address and port
+     * @param timeoutInMS Timeout in ms
+     * @return A future which is completed with the ping result. A timeout, a refused connection or an unreachable
+     *         host are unsuccessful results, other errors complete the future exceptionally.
+     */
+    public CompletableFuture<PingResult> probe(InetSocketAddress address, int timeoutInMS) {
+        Probe probe = new Probe(address, TimeUnit.MILLISECONDS.toNanos(timeoutInMS));
+        queuedProbes.add(probe);
+        synchronized (this) {
+            Selector currentSelector = selector;
+            if (currentSelector != null) {
+                currentSelector.wakeup();
+            } else {
+                Selector newSelector;
+                try {
+                    newSelector = Selector.open();
+                } catch (IOException e) {
+                    queuedProbes.remove(probe);
+                    probe.result.completeExceptionally(e);
+                    return probe.result;
+                }
+                Thread thread = new Thread(() -> run(newSelector), "OH-binding-network-tcpProbes");
+                thread.setDaemon(true);
+                selector = newSelector;
+                thread.start();
+            }
+        }
+        return probe.result;
+    }
+
+    private void run(Selector selector) {
+        try {
+            while (true) {
+                Probe probe;
+                while (pendingProbes < MAX_PENDING_CONNECTS && (probe = queuedProbes.poll()) != null) {
+                    connect(selector, probe);
+                }
+                if (pendingProbes == 0) {
+                    if (stopIfIdle()) {
+                        return;
+                    }
+                    continue;
+                }
+
+                long waitTimeInNS = nextDeadline(selector) - System.nanoTime();
+                selector.select(Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitTimeInNS)));
+
+                Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    SelectionKey key = iterator.next();
+                    iterator.remove();
+                    finishConnect(key);
+                }
+                expireProbes(selector);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warn("TCP presence detection stopped unexpectedly", e);
+            failAll(selector, e);
+        }
+    }
+
+    /**
+     * Ends the selector thread if no probe has been queued in the meantime.
+     *
+     * @return true if the thread has to end.
+     */
+    private synchronized boolean stopIfIdle() throws IOException {
+        if (!queuedProbes.isEmpty()) {
+            return false;
+        }
+        Selector currentSelector = selector;
+        selector = null;
+        if (currentSelector != null) {
+            currentSelector.close();
+        }
+        return true;
+    }
+
+    private void connect(Selector selector, Probe probe) {
+        probe.startTimeInNS = System.nanoTime();
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(probe.address)) {
+                closeQuietly(channel);
+                probe.complete(true);
+            } else {
+                channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                pendingProbes++;
+            }
+        } catch (ConnectException | NoRouteToHostException e) {
+            closeQuietly(channel);
+            probe.complete(false);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(channel);
+            probe.result.completeExceptionally(e);
+        }
+    }
+
+    private void finishConnect(SelectionKey key) {
+        SocketChannel channel = (SocketChannel) key.channel();
+        boolean success;
+        try {
+            if (!channel.finishConnect()) {
+                return;
+            }
+            success = true;
+        } catch (IOException e) {
+            // refused, unreachable or reset
+            success = false;
+        }
+        key.cancel();
+        closeQuietly(channel);
+        pendingProbes--;
+        ((Probe) key.attachment()).complete(success);
+    }
+
+    private long nextDeadline(Selector selector) {
+        long now = System.nanoTime();
+        long next = now + TimeUnit.SECONDS.toNanos(1);
+        for (SelectionKey key : selector.keys()) {
+            if (!key.isValid()) {
+                continue;
+            }
+            Probe probe = (Probe) key.attachment();
+            long deadline = probe.startTimeInNS + probe.timeoutInNS;
+            if (deadline - next < 0) {
+                next = deadline;
+            }
+        }
+        return next;
+    }
+
+    private void expireProbes(Selector selector) {
+        long now = System.nanoTime();
+        List<SelectionKey> expired = new ArrayList<>();
+        for (SelectionKey key : selector.keys()) {
+            Probe probe = (Probe) key.attachment();
+            if (key.isValid() && now - probe.startTimeInNS >= probe.timeoutInNS) {
+                expired.add(key);
+            }
+        }
+        for (SelectionKey key : expired) {
+            key.cancel();
+            closeQuietly((SocketChannel) key.channel());
+            pendingProbes--;
+            ((Probe) key.attachment()).complete(false);
+        }
+    }
+
+    private void failAll(Selector selector, Exception e) {
+        synchronized (this) {
+            if (this.selector == selector) {
+                this.selector = null;
+            }
+        }
+        pendingProbes = 0;
+        try {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly((SocketChannel) key.channel());
+                ((Probe) key.attachment()).result.completeExceptionally(e);
+            }
+            selector.close();
+        } catch (IOException | RuntimeException ignored) {
+            // the selector is not used anymore
+        }
+        Probe probe;
+        while ((probe = queuedProbes.poll()) != null) {
+            probe.result.completeExceptionally(e);
+        }
+    }
+
+    private void closeQuietly(@Nullable SocketChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the connection attempt is finished anyway
+            }
+        }
+    }
+}
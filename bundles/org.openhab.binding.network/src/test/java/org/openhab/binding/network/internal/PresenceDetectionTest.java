@@ -22,7 +22,9 @@ import java.io.IOException;
 import java.net.UnknownHostException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -56,6 +58,7 @@ public class PresenceDetectionTest {
 
     private @Mock Consumer<PresenceDetectionValue> callback;
     private @Mock ExecutorService executorService;
+    private @Mock ScheduledExecutorService scheduler;
     private @Mock PresenceDetectionListener listener;
     private @Mock NetworkUtils networkUtils;
 
@@ -68,6 +71,12 @@ public class PresenceDetectionTest {
 
         subject = spy(new PresenceDetection(listener, (int) CACHETIME));
         subject.networkUtils = networkUtils;
+        // Process the results of TCP connection attempts right away
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scheduler).execute(any());
+        subject.scheduler = scheduler;
         subject.cache = spy(new ExpiringCacheAsync<>(CACHETIME, () -> {
             subject.performPresenceDetection(false);
         }));
@@ -117,7 +126,8 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        doReturn(CompletableFuture.completedFuture(new PingResult(true, 10))).when(networkUtils)
+                .servicePingAsync(any(), anyInt(), anyInt());
 
         assertTrue(subject.performPresenceDetection(false));
         subject.waitForPresenceDetection();
@@ -132,6 +142,25 @@ public class PresenceDetectionTest {
         verify(listener, times(1)).finalDetectionResult(capture.capture());
 
         assertThat(capture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
+        assertThat(subject.getLatencyHistogram().getCount(), is(1L));
+    }
+
+    @Test
+    public void servicePingResultIsProcessedByScheduler() {
+        CompletableFuture<PingResult> servicePingResult = new CompletableFuture<>();
+        doReturn(servicePingResult).when(networkUtils).servicePingAsync(any(), anyInt(), anyInt());
+        ScheduledExecutorService pendingScheduler = mock(ScheduledExecutorService.class);
+        subject.scheduler = pendingScheduler;
+
+        subject.performServicePing(1010);
+        servicePingResult.complete(new PingResult(true, 10));
+
+        // the thread completing the connection attempt does not call the listener
+        verify(listener, never()).partialDetectionResult(any());
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(pendingScheduler).execute(capture.capture());
+        capture.getValue().run();
+        verify(listener).partialDetectionResult(any());
     }
 
     @Test
@@ -140,7 +169,8 @@ public class PresenceDetectionTest {
                 anyString(), anyInt());
         doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils)
                 .nativeARPPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(), anyString(), any(), anyInt());
-        doReturn(Optional.of(new PingResult(true, 10))).when(networkUtils).servicePing(anyString(), anyInt(), anyInt());
+        CompletableFuture<PingResult> servicePingResult = new CompletableFuture<>();
+        doReturn(servicePingResult).when(networkUtils).servicePingAsync(any(), anyInt(), anyInt());
 
         doReturn(executorService).when(subject).getThreadsFor(anyInt());
 
@@ -153,12 +183,13 @@ public class PresenceDetectionTest {
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
-        // Perform the different presence detection threads now
+        // Perform the different presence detection threads now, the TCP check does not need a thread
         ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(executorService, times(3)).execute(capture.capture());
+        verify(executorService, times(2)).execute(capture.capture());
         for (Runnable r : capture.getAllValues()) {
             r.run();
         }
+        servicePingResult.complete(new PingResult(true, 10));
         // "Wait" for the presence detection to finish
         subject.waitForPresenceDetection();
 
@@ -0,0 +1,57 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the histogram of presence detection latencies.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogramTest {
+
+    @Test
+    public void percentileTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertTrue(Double.isNaN(histogram.getPercentile(50)));
+
+        histogram.record(0.4);
+        histogram.record(1.0);
+        histogram.record(3.2);
+        histogram.record(45);
+        histogram.recordUnreachable();
+
+        assertEquals(4, histogram.getCount());
+        assertEquals(1, histogram.getUnreachableCount());
+        assertEquals(1, histogram.getPercentile(50), 0);
+        assertEquals(5, histogram.getPercentile(75), 0);
+        assertEquals(50, histogram.getPercentile(100), 0);
+    }
+
+    @Test
+    public void overflowAndResetTest() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(7000);
+
+        assertEquals(Double.POSITIVE_INFINITY, histogram.getPercentile(50), 0);
+        assertEquals("LatencyHistogram{>5000ms=1, unreachable=0}", histogram.toString());
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the non-blocking TCP connection attempts.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TcpProbeSelectorTest {
+
+    @Test
+    public void openPortTest() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(),
+                    serverSocket.getLocalPort());
+
+            List<CompletableFuture<PingResult>> results = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                results.add(TcpProbeSelector.getInstance().probe(address, 2000));
+            }
+            for (CompletableFuture<PingResult> result : results) {
+                assertTrue(result.get(5, TimeUnit.SECONDS).isSuccess());
+            }
+        }
+    }
+
+    @Test
+    public void closedPortTest() throws Exception {
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            port = serverSocket.getLocalPort();
+        }
+
+        PingResult result = TcpProbeSelector.getInstance()
+                .probe(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 2000).get(5, TimeUnit.SECONDS);
+        assertFalse(result.isSuccess());
+    }
+}
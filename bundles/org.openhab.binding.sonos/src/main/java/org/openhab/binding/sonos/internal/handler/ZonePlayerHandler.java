@@ -185,6 +185,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private final Object jobLock = new Object();
 
     private final Map<String, String> stateMap = Collections.synchronizedMap(new HashMap<>());
+    // parsed DIDL meta data by state variable, together with the XML they were parsed from
+    private final Map<String, ParsedMetaData> parsedMetaData = Collections.synchronizedMap(new HashMap<>());
 
     private @Nullable ScheduledFuture<?> pollingJob;
     private @Nullable SonosZonePlayerState savedState;
@@ -1377,18 +1379,42 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public @Nullable SonosMetaData getCurrentURIMetadata() {
-        String metaData = getCurrentURIMetadataAsString();
-        return metaData != null && !metaData.isEmpty() ? SonosXMLParser.getMetaDataFromXML(metaData) : null;
+        return getMetaData("CurrentURIMetaData");
     }
 
     public @Nullable SonosMetaData getTrackMetadata() {
-        String metaData = stateMap.get("CurrentTrackMetaData");
-        return metaData != null && !metaData.isEmpty() ? SonosXMLParser.getMetaDataFromXML(metaData) : null;
+        return getMetaData("CurrentTrackMetaData");
     }
 
     public @Nullable SonosMetaData getEnqueuedTransportURIMetaData() {
-        String metaData = stateMap.get("EnqueuedTransportURIMetaData");
-        return metaData != null && !metaData.isEmpty() ? SonosXMLParser.getMetaDataFromXML(metaData) : null;
+        return getMetaData("EnqueuedTransportURIMetaData");
+    }
+
+    /**
+     * Returns the parsed meta data of a state variable. The meta data is requested several times for every event,
+     * so it is only parsed again when the variable has changed.
+     */
+    private @Nullable SonosMetaData getMetaData(String variable) {
+        String metaData = stateMap.get(variable);
+        if (metaData == null || metaData.isEmpty()) {
+            return null;
+        }
+        ParsedMetaData parsed = parsedMetaData.get(variable);
+        if (parsed == null || !parsed.xml.equals(metaData)) {
+            parsed = new ParsedMetaData(metaData, SonosXMLParser.getMetaDataFromXML(metaData));
+            parsedMetaData.put(variable, parsed);
+        }
+        return parsed.metaData;
+    }
+
+    private static class ParsedMetaData {
+        private final String xml;
+        private final SonosMetaData metaData;
+
+        private ParsedMetaData(String xml, SonosMetaData metaData) {
+            this.xml = xml;
+            this.metaData = metaData;
+        }
     }
 
     public @Nullable String getMACAddress() {
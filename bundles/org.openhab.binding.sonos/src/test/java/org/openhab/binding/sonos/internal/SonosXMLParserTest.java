@@ -18,6 +18,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Test;
@@ -79,4 +80,31 @@ public class SonosXMLParserTest {
             assertEquals("Paris, France", result.get(2));
         }
     }
+
+    @Test
+    public void getAVTransportAndMetaDataFromXML() {
+        final String lastChange = "<Event xmlns=\"urn:schemas-upnp-org:metadata-1-0/AVT/\" "
+                + "xmlns:r=\"urn:schemas-rinconnetworks-com:metadata-1-0/\"><InstanceID val=\"0\">"
+                + "<TransportState val=\"PLAYING\"/><CurrentTrackMetaData val=\"&lt;DIDL-Lite "
+                + "xmlns:dc=&quot;http://purl.org/dc/elements/1.1/&quot; "
+                + "xmlns:upnp=&quot;urn:schemas-upnp-org:metadata-1-0/upnp/&quot; "
+                + "xmlns=&quot;urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/&quot;&gt;&lt;item id=&quot;-1&quot; "
+                + "parentID=&quot;-1&quot; restricted=&quot;true&quot;&gt;&lt;dc:title&gt;Broken Box&lt;/dc:title&gt;"
+                + "&lt;dc:creator&gt;Queens Of The Stone Age&lt;/dc:creator&gt;&lt;/item&gt;&lt;/DIDL-Lite&gt;\"/>"
+                + "<r:SleepTimerGeneration val=\"0\"/></InstanceID></Event>";
+
+        // parse twice, the second time with the reader reused by this thread
+        for (int i = 0; i < 2; i++) {
+            Map<String, String> changes = SonosXMLParser.getAVTransportFromXML(lastChange);
+            assertEquals("PLAYING", changes.get("TransportState"));
+            assertEquals("0", changes.get("SleepTimerGeneration"));
+            String metaData = changes.get("CurrentTrackMetaData");
+            assertNotNull(metaData);
+            if (metaData != null) {
+                SonosMetaData track = SonosXMLParser.getMetaDataFromXML(metaData);
+                assertEquals("Broken Box", track.getTitle());
+                assertEquals("Queens Of The Stone Age", track.getCreator());
+            }
+        }
+    }
 }
@@ -57,6 +57,7 @@ import io.socket.engineio.client.Transport;
 import io.socket.engineio.client.transports.WebSocket;
 import io.socket.parser.Packet;
 import io.socket.parser.Parser;
+import io.socket.thread.EventThread;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
@@ -81,6 +82,11 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    /*
+     * Response content of a proxied request which may be emitted but not yet written before reading is paused
+     */
+    private static final int RESPONSE_WINDOW_SIZE = 256 * 1024;
+
     /*
      * Logger for this class
      */
@@ -116,10 +122,24 @@ public class CloudClient {
      */
     private final Map<Integer, Request> runningRequests = new ConcurrentHashMap<>();
 
+    /*
+     * The current Engine.IO transport of the Socket.IO client
+     */
+    private volatile @Nullable Transport transport;
+
+    /*
+     * Tracks response content which has been emitted but not yet been written by the transport, only accessed by the
+     * Socket.IO event thread
+     */
+    private final ContentWriteTracker contentWriteTracker = new ContentWriteTracker(() -> {
+        Transport localTransport = transport;
+        return localTransport != null && localTransport.writable;
+    });
+
     /*
      * This variable indicates if connection to the openHAB Cloud is currently in an established state
      */
-    private boolean isConnected;
+    private volatile boolean isConnected;
 
     /*
      * This variable holds instance of Socket.IO client class which provides communication
@@ -152,6 +172,11 @@ public class CloudClient {
     protected final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
 
+    /*
+     * This variable holds the sender which combines item updates before they are sent to the openHAB Cloud
+     */
+    private final ItemUpdateSender itemUpdateSender;
+
     @SuppressWarnings("null")
     private final AtomicReference<Optional<ScheduledFuture<?>>> reconnectFuture = new AtomicReference<>(
             Optional.empty());
@@ -163,9 +188,10 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param itemUpdateInterval Interval in milliseconds in which updates of an exposed item are combined
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, long itemUpdateInterval) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
@@ -173,6 +199,8 @@ public class CloudClient {
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
         this.jettyClient = httpClient;
+        this.itemUpdateSender = new ItemUpdateSender(scheduler, itemUpdateInterval, this::isConnected,
+                this::emitItemUpdate);
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
         reconnectBackoff.setJitter(RECONNECT_JITTER);
@@ -221,6 +249,11 @@ public class CloudClient {
                 .on(Manager.EVENT_TRANSPORT, args -> {
                     logger.trace("Manager.EVENT_TRANSPORT");
                     Transport transport = (Transport) args[0];
+                    this.transport = transport;
+                    // The Engine.IO socket writes its remaining packets when the transport drains, so the transport
+                    // is checked for being writable after the listeners of the drain event have been called
+                    transport.on(Transport.EVENT_DRAIN,
+                            drainArgs -> EventThread.nextTick(contentWriteTracker::drained));
                     transport.on(Transport.EVENT_REQUEST_HEADERS, new Emitter.Listener() {
                         @Override
                         public void call(Object... args) {
@@ -371,6 +404,7 @@ public class CloudClient {
                 this.localBaseUrl);
         reconnectBackoff.reset();
         isConnected = true;
+        itemUpdateSender.onConnect();
     }
 
     /**
@@ -381,8 +415,8 @@ public class CloudClient {
         logger.info("Disconnected from the openHAB Cloud service (UUID = {}, base URL = {})", censored(this.uuid),
                 this.localBaseUrl);
         isConnected = false;
-        // And clean up the list of running requests
-        runningRequests.clear();
+        // The openHAB Cloud drops all requests of the connection, so abort and clean up the running requests
+        abortRunningRequests();
     }
 
     /**
@@ -463,6 +497,10 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            // Add the request to the list of currently running requests before it is sent, to be able to cancel it
+            // if needed, even if it completes or the connection is lost right away
+            runningRequests.put(requestId, request);
+            ResponseWindow window = new ResponseWindow(RESPONSE_WINDOW_SIZE);
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
                 JSONObject responseJson = new JSONObject();
@@ -477,8 +515,14 @@ public class CloudClient {
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).onResponseContent((theResponse, content) -> {
-                logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
+            }).onResponseContentAsync((theResponse, content, callback) -> {
+                int size = content.remaining();
+                logger.debug("onResponseContent: {}, content size {}", requestId, size);
+                if (!isConnected()) {
+                    // the openHAB Cloud has dropped the request with the connection
+                    callback.failed(new IOException("openHAB Cloud connection lost"));
+                    return;
+                }
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -490,9 +534,18 @@ public class CloudClient {
                     logger.trace("Sent content to request {}", requestId);
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
+                    callback.succeeded();
+                    return;
                 }
+                // The emit is processed by the Socket.IO event thread, so the content has been handed to the
+                // transport once a task queued after it is run. It is written once the transport has drained.
+                window.emitted(size, callback);
+                EventThread.exec(() -> contentWriteTracker.queued(window, size));
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
+                if (!isConnected()) {
+                    return;
+                }
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -517,6 +570,10 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
+                if (!isConnected()) {
+                    logger.debug("Not sending end of request {}, openHAB Cloud connection lost", requestId);
+                    return;
+                }
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
@@ -526,15 +583,22 @@ public class CloudClient {
                     logger.debug("{}", e.getMessage());
                 }
             });
-
-            // If successfully submitted request to http client, add it to the list of currently
-            // running requests to be able to cancel it if needed
-            runningRequests.put(requestId, request);
         } catch (JSONException | IOException | URISyntaxException e) {
             logger.debug("{}", e.getMessage());
         }
     }
 
+    private void abortRunningRequests() {
+        // content of aborted requests will never be written
+        EventThread.exec(contentWriteTracker::clear);
+        Iterator<Request> requests = runningRequests.values().iterator();
+        while (requests.hasNext()) {
+            Request request = requests.next();
+            requests.remove();
+            request.abort(new IOException("openHAB Cloud connection lost"));
+        }
+    }
+
     private void setRequestHeaders(Request request, JSONObject requestHeadersJson) {
         Iterator<String> headersIterator = requestHeadersJson.keys();
         // Convert JSONObject of headers into Header ArrayList
@@ -656,25 +720,25 @@ public class CloudClient {
     }
 
     /**
-     * Send item update to openHAB Cloud
+     * Send item update to openHAB Cloud. Updates are combined and sent by the {@link ItemUpdateSender}.
      *
      * @param itemName the name of the item
      * @param itemState updated item state
      *
      */
     public void sendItemUpdate(String itemName, String itemState) {
-        if (isConnected()) {
-            logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
-            JSONObject itemUpdateMessage = new JSONObject();
-            try {
-                itemUpdateMessage.put("itemName", itemName);
-                itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
-            } catch (JSONException e) {
-                logger.debug("{}", e.getMessage());
-            }
-        } else {
-            logger.debug("No connection, Item update is not sent");
+        itemUpdateSender.queueItemUpdate(itemName, itemState);
+    }
+
+    private void emitItemUpdate(String itemName, String itemState) {
+        logger.debug("Sending update '{}' for item '{}'", itemState, itemName);
+        JSONObject itemUpdateMessage = new JSONObject();
+        try {
+            itemUpdateMessage.put("itemName", itemName);
+            itemUpdateMessage.put("itemStatus", itemState);
+            socket.emit("itemupdate", itemUpdateMessage);
+        } catch (JSONException e) {
+            logger.debug("{}", e.getMessage());
         }
     }
 
@@ -691,6 +755,8 @@ public class CloudClient {
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
+        itemUpdateSender.shutdown();
+        abortRunningRequests();
         socket.disconnect();
     }
 
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * This class tracks response content which has been handed to the Socket.IO client but not yet been written by the
+ * Engine.IO transport. The transport signals with a drain event that it has written its packets, and it is only
+ * writable while no packet is waiting to be written. Content is therefore released to its {@link ResponseWindow}
+ * once the transport is writable again, but never while it is stalled.
+ *
+ * All methods have to be called by the Socket.IO event thread.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ContentWriteTracker {
+
+    private final BooleanSupplier transportWritable;
+
+    /*
+     * The number of bytes waiting to be written for every response window
+     */
+    private final Map<ResponseWindow, Integer> unwritten = new LinkedHashMap<>();
+
+    /**
+     * Constructor of ContentWriteTracker
+     *
+     * @param transportWritable tells if the current transport is writable, i.e. has written all packets
+     */
+    public ContentWriteTracker(BooleanSupplier transportWritable) {
+        this.transportWritable = transportWritable;
+    }
+
+    /**
+     * Called once emitted content has been handed to the transport or queued in the Engine.IO write buffer.
+     *
+     * @param window the window of the response the content belongs to
+     * @param bytes the number of bytes emitted
+     */
+    public void queued(ResponseWindow window, int bytes) {
+        if (transportWritable.getAsBoolean()) {
+            window.written(bytes);
+        } else {
+            unwritten.merge(window, bytes, Integer::sum);
+        }
+    }
+
+    /**
+     * Called after the transport has drained, releases all content if no more packets are waiting to be written.
+     */
+    public void drained() {
+        if (unwritten.isEmpty() || !transportWritable.getAsBoolean()) {
+            return;
+        }
+        Map<ResponseWindow, Integer> written = new LinkedHashMap<>(unwritten);
+        unwritten.clear();
+        written.forEach(ResponseWindow::written);
+    }
+
+    /**
+     * Forgets all content, e.g. when the connection has been lost and the content will never be written.
+     */
+    public void clear() {
+        unwritten.clear();
+    }
+
+    /**
+     * @return the number of bytes waiting to be written
+     */
+    public int getUnwritten() {
+        return unwritten.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class collects item updates for the openHAB Cloud and sends them in intervals. Only the latest state of an
+ * item within an interval is sent, so chatty items do not flood the cloud connection.
+ *
+ * While the connection is down the latest state of every item is kept and sent once the connection is established
+ * again. As only one state per item is kept, the pending updates are limited by the number of exposed items.
+ *
+ * @author agent - Initial contribution
+ */
+public class ItemUpdateSender {
+
+    private final Logger logger = LoggerFactory.getLogger(ItemUpdateSender.class);
+
+    private final ScheduledExecutorService scheduler;
+
+    private final long interval;
+
+    private final BooleanSupplier connected;
+
+    private final BiConsumer<String, String> emitter;
+
+    /*
+     * The latest state of every item which has not been sent yet, in the order the items were updated first
+     */
+    private final Map<String, String> pendingUpdates = new LinkedHashMap<>();
+
+    /*
+     * Serializes sending, so an older state of an item can never overtake a newer one
+     */
+    private final Object sendLock = new Object();
+
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private long coalescedUpdates;
+
+    /**
+     * Constructor of ItemUpdateSender
+     *
+     * @param scheduler scheduler used to send the updates
+     * @param interval interval in milliseconds in which updates of an item are combined, 0 sends updates immediately
+     * @param connected tells whether the connection to the openHAB Cloud is established
+     * @param emitter sends a single item update with item name and state to the openHAB Cloud
+     */
+    public ItemUpdateSender(ScheduledExecutorService scheduler, long interval, BooleanSupplier connected,
+            BiConsumer<String, String> emitter) {
+        this.scheduler = scheduler;
+        this.interval = interval;
+        this.connected = connected;
+        this.emitter = emitter;
+    }
+
+    /**
+     * Queues an item update. An update of the same item which has not been sent yet is replaced.
+     *
+     * @param itemName the name of the item
+     * @param itemState updated item state
+     */
+    public void queueItemUpdate(String itemName, String itemState) {
+        synchronized (pendingUpdates) {
+            if (pendingUpdates.put(itemName, itemState) != null) {
+                coalescedUpdates++;
+            }
+            if (!connected.getAsBoolean()) {
+                // sent when the connection is established again
+                return;
+            }
+            if (interval > 0) {
+                scheduleFlush(interval);
+                return;
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Sends the updates collected while the connection was down.
+     */
+    public void onConnect() {
+        synchronized (pendingUpdates) {
+            if (!pendingUpdates.isEmpty()) {
+                logger.debug("Sending {} item updates queued while disconnected", pendingUpdates.size());
+                scheduleFlush(0);
+            }
+        }
+    }
+
+    /**
+     * Drops all pending updates.
+     */
+    public void shutdown() {
+        synchronized (pendingUpdates) {
+            ScheduledFuture<?> job = flushJob;
+            if (job != null) {
+                job.cancel(false);
+                flushJob = null;
+            }
+            pendingUpdates.clear();
+        }
+    }
+
+    private void scheduleFlush(long delay) {
+        if (flushJob == null) {
+            flushJob = scheduler.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        synchronized (sendLock) {
+            Map<String, String> updates;
+            synchronized (pendingUpdates) {
+                flushJob = null;
+                if (pendingUpdates.isEmpty()) {
+                    return;
+                }
+                updates = new LinkedHashMap<>(pendingUpdates);
+                pendingUpdates.clear();
+                if (coalescedUpdates > 0) {
+                    logger.debug("Sending {} item updates, {} updates were replaced by newer ones", updates.size(),
+                            coalescedUpdates);
+                    coalescedUpdates = 0;
+                }
+            }
+            for (Map.Entry<String, String> update : updates.entrySet()) {
+                if (!connected.getAsBoolean()) {
+                    requeue(update.getKey(), update.getValue());
+                    continue;
+                }
+                emitter.accept(update.getKey(), update.getValue());
+            }
+        }
+    }
+
+    private void requeue(String itemName, String itemState) {
+        synchronized (pendingUpdates) {
+            // a newer state may have been queued in the meantime
+            pendingUpdates.putIfAbsent(itemName, itemState);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * This class limits the response content of a proxied request which has been emitted to the openHAB Cloud but not
+ * yet been written by the Engine.IO transport. More content is only read from the local openHAB while the window is
+ * not exhausted, so a large response is streamed instead of being buffered completely in memory.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseWindow {
+
+    private final int size;
+
+    private long inFlight;
+
+    private @Nullable Callback pendingCallback;
+
+    /**
+     * Constructor of ResponseWindow
+     *
+     * @param size the number of bytes which may be in flight before reading more content is paused
+     */
+    public ResponseWindow(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Called when content has been emitted. The callback is completed immediately if the window is not exhausted,
+     * otherwise once enough content has been written.
+     *
+     * @param bytes the number of bytes emitted
+     * @param callback the callback requesting more content from the local openHAB
+     */
+    public void emitted(int bytes, Callback callback) {
+        synchronized (this) {
+            inFlight += bytes;
+            if (inFlight > size) {
+                pendingCallback = callback;
+                return;
+            }
+        }
+        callback.succeeded();
+    }
+
+    /**
+     * Called when emitted content has been written by the Engine.IO transport.
+     *
+     * @param bytes the number of bytes written
+     */
+    public void written(int bytes) {
+        Callback callback;
+        synchronized (this) {
+            inFlight -= bytes;
+            callback = pendingCallback;
+            if (callback == null || inFlight > size) {
+                return;
+            }
+            pendingCallback = null;
+        }
+        callback.succeeded();
+    }
+
+    /**
+     * @return the number of bytes emitted but not yet written
+     */
+    public synchronized long getInFlight() {
+        return inFlight;
+    }
+}
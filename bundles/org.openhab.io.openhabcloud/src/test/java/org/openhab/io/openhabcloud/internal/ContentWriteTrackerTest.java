@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the flow control of proxied response content by {@link ResponseWindow} and {@link ContentWriteTracker}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ContentWriteTrackerTest {
+    private static final int WINDOW_SIZE = 1000;
+
+    private boolean transportWritable;
+    private final ContentWriteTracker tracker = new ContentWriteTracker(() -> transportWritable);
+    private final ResponseWindow window = new ResponseWindow(WINDOW_SIZE);
+
+    private static class CountingCallback implements Callback {
+        private int succeeded;
+
+        @Override
+        public void succeeded() {
+            succeeded++;
+        }
+    }
+
+    /**
+     * Emits content like the response content listener of the {@link CloudClient} does.
+     */
+    private CountingCallback emit(int bytes) {
+        CountingCallback callback = new CountingCallback();
+        window.emitted(bytes, callback);
+        tracker.queued(window, bytes);
+        return callback;
+    }
+
+    @Test
+    public void stalledTransportPausesReadingOnceWindowIsExhausted() {
+        transportWritable = false;
+
+        assertThat(emit(600).succeeded, is(1));
+        CountingCallback exhausted = emit(600);
+
+        assertThat(exhausted.succeeded, is(0));
+        assertThat(window.getInFlight(), is(1200L));
+        assertThat(tracker.getUnwritten(), is(1200));
+    }
+
+    @Test
+    public void drainWhileTransportIsStillBusyDoesNotReleaseContent() {
+        transportWritable = false;
+        emit(600);
+        CountingCallback exhausted = emit(600);
+
+        // the transport has written a packet, but the Engine.IO socket has handed it the next ones
+        tracker.drained();
+
+        assertThat(exhausted.succeeded, is(0));
+        assertThat(window.getInFlight(), is(1200L));
+    }
+
+    @Test
+    public void drainOfWritableTransportResumesReading() {
+        transportWritable = false;
+        emit(600);
+        CountingCallback exhausted = emit(600);
+
+        transportWritable = true;
+        tracker.drained();
+
+        assertThat(exhausted.succeeded, is(1));
+        assertThat(window.getInFlight(), is(0L));
+        assertThat(tracker.getUnwritten(), is(0));
+    }
+
+    @Test
+    public void contentIsReleasedRightAwayWhileTransportIsWritable() {
+        transportWritable = true;
+
+        assertThat(emit(600).succeeded, is(1));
+        assertThat(emit(600).succeeded, is(1));
+        assertThat(window.getInFlight(), is(0L));
+    }
+
+    @Test
+    public void clearedContentIsNotReleased() {
+        transportWritable = false;
+        emit(600);
+        CountingCallback exhausted = emit(600);
+
+        tracker.clear();
+        transportWritable = true;
+        tracker.drained();
+
+        assertThat(exhausted.succeeded, is(0));
+        assertThat(tracker.getUnwritten(), is(0));
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests the combining and queueing of item updates by the {@link ItemUpdateSender}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class ItemUpdateSenderTest {
+    private static final long INTERVAL = 1000;
+
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> future;
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final List<String> sent = new ArrayList<>();
+    private boolean connected = true;
+
+    @BeforeEach
+    public void setUp() {
+        doAnswer(invocation -> {
+            scheduled.add(invocation.getArgument(0));
+            return future;
+        }).when(scheduler).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private ItemUpdateSender createSender(long interval) {
+        return new ItemUpdateSender(scheduler, interval, () -> connected,
+                (itemName, itemState) -> sent.add(itemName + "=" + itemState));
+    }
+
+    private void runScheduled() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    @Test
+    public void repeatedUpdatesOfAnItemAreCombined() {
+        ItemUpdateSender sender = createSender(INTERVAL);
+
+        sender.queueItemUpdate("Item1", "1");
+        sender.queueItemUpdate("Item2", "ON");
+        sender.queueItemUpdate("Item1", "2");
+        sender.queueItemUpdate("Item1", "3");
+
+        verify(scheduler).schedule(any(Runnable.class), eq(INTERVAL), eq(TimeUnit.MILLISECONDS));
+        assertThat(sent.isEmpty(), is(true));
+
+        runScheduled();
+        assertThat(sent, is(List.of("Item1=3", "Item2=ON")));
+    }
+
+    @Test
+    public void updatesAfterFlushAreSentInNextInterval() {
+        ItemUpdateSender sender = createSender(INTERVAL);
+
+        sender.queueItemUpdate("Item1", "1");
+        runScheduled();
+        sender.queueItemUpdate("Item1", "2");
+        runScheduled();
+
+        assertThat(sent, is(List.of("Item1=1", "Item1=2")));
+    }
+
+    @Test
+    public void updatesAreHeldWhileDisconnectedAndSentOnConnect() {
+        connected = false;
+        ItemUpdateSender sender = createSender(INTERVAL);
+
+        sender.queueItemUpdate("Item1", "1");
+        sender.queueItemUpdate("Item2", "OFF");
+        sender.queueItemUpdate("Item1", "2");
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        connected = true;
+        sender.onConnect();
+        verify(scheduler).schedule(any(Runnable.class), eq(0L), eq(TimeUnit.MILLISECONDS));
+
+        runScheduled();
+        assertThat(sent, is(List.of("Item1=2", "Item2=OFF")));
+    }
+
+    @Test
+    public void onConnectWithoutPendingUpdatesSchedulesNothing() {
+        ItemUpdateSender sender = createSender(INTERVAL);
+
+        sender.onConnect();
+
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void updatesAreRequeuedWhenConnectionDropsDuringFlush() {
+        ItemUpdateSender sender = new ItemUpdateSender(scheduler, INTERVAL, () -> connected, (itemName, itemState) -> {
+            sent.add(itemName + "=" + itemState);
+            // the connection is lost after the first update has been sent
+            connected = false;
+        });
+
+        sender.queueItemUpdate("Item1", "1");
+        sender.queueItemUpdate("Item2", "2");
+        sender.queueItemUpdate("Item3", "3");
+        runScheduled();
+        assertThat(sent, is(List.of("Item1=1")));
+
+        // a newer state queued while disconnected replaces the requeued one
+        sender.queueItemUpdate("Item3", "4");
+
+        connected = true;
+        sender.onConnect();
+        runScheduled();
+        assertThat(sent, is(List.of("Item1=1", "Item2=2")));
+
+        connected = true;
+        sender.onConnect();
+        runScheduled();
+        assertThat(sent, is(List.of("Item1=1", "Item2=2", "Item3=4")));
+    }
+
+    @Test
+    public void updatesAreSentImmediatelyWithoutInterval() {
+        ItemUpdateSender sender = createSender(0);
+
+        sender.queueItemUpdate("Item1", "1");
+        sender.queueItemUpdate("Item1", "2");
+
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        assertThat(sent, is(List.of("Item1=1", "Item1=2")));
+    }
+
+    @Test
+    public void shutdownDropsPendingUpdates() {
+        ItemUpdateSender sender = createSender(INTERVAL);
+
+        sender.queueItemUpdate("Item1", "1");
+        sender.shutdown();
+
+        verify(future).cancel(false);
+        runScheduled();
+        assertThat(sent.isEmpty(), is(true));
+    }
+}
@@ -12,16 +12,21 @@
  */
 package org.openhab.persistence.influxdb;
 
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemRegistry;
@@ -38,10 +43,11 @@ import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpoolFile;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
+import org.openhab.persistence.influxdb.internal.InfluxDBWriteBuffer;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.ItemToStorePointCreator;
-import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
 import org.osgi.framework.Constants;
@@ -83,6 +89,8 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
 
     protected static final String CONFIG_URI = "persistence:influxdb";
 
+    private static final String SPOOL_FILE_NAME = "spool.dat";
+
     // External dependencies
     private final ItemRegistry itemRegistry;
     private final InfluxDBMetadataService influxDBMetadataService;
@@ -90,6 +98,8 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
     private final InfluxDBConfiguration configuration;
     private final ItemToStorePointCreator itemToStorePointCreator;
     private final InfluxDBRepository influxDBRepository;
+    private final ScheduledExecutorService writeScheduler;
+    private final InfluxDBWriteBuffer writeBuffer;
     private boolean tryReconnection;
 
     @Activate
@@ -102,6 +112,10 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
             this.itemToStorePointCreator = new ItemToStorePointCreator(configuration, influxDBMetadataService);
+            this.writeScheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("influxdb"));
+            this.writeBuffer = new InfluxDBWriteBuffer(influxDBRepository, writeScheduler, configuration.getBatchSize(),
+                    configuration.getFlushInterval(), configuration.getBufferSize(), createSpoolFile());
+            this.writeBuffer.start();
             tryReconnection = true;
         } else {
             throw new IllegalArgumentException("Configuration invalid.");
@@ -119,12 +133,23 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
         };
     }
 
+    private @Nullable InfluxDBSpoolFile createSpoolFile() {
+        int spoolSize = configuration.getSpoolSize();
+        if (spoolSize == 0) {
+            return null;
+        }
+        Path spoolFile = Path.of(OpenHAB.getUserDataFolder(), "persistence", SERVICE_NAME, SPOOL_FILE_NAME);
+        return new InfluxDBSpoolFile(spoolFile, spoolSize * 1024L * 1024L);
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
     @Deactivate
     public void deactivate() {
         tryReconnection = false;
+        writeBuffer.stop();
+        writeScheduler.shutdown();
         influxDBRepository.disconnect();
         logger.info("InfluxDB persistence service stopped.");
     }
@@ -157,20 +182,16 @@ public class InfluxDBPersistenceService implements QueryablePersistenceService {
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        if (checkConnection()) {
-            InfluxPoint point = itemToStorePointCreator.convert(item, alias);
-            if (point != null) {
-                try {
-                    influxDBRepository.write(point);
-                    logger.trace("Stored item {} in InfluxDB point {}", item, point);
-                } catch (UnexpectedConditionException e) {
-                    logger.warn("Failed to store item {} in InfluxDB point {}", point, item);
-                }
+        // points are buffered while InfluxDB is not reachable
+        InfluxPoint point = itemToStorePointCreator.convert(item, alias);
+        if (point != null) {
+            if (writeBuffer.add(point)) {
+                logger.trace("Queued item {} as InfluxDB point {}", item, point);
             } else {
-                logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item);
+                logger.warn("Failed to store item {} in InfluxDB point {}", item, point);
             }
         } else {
-            logger.debug("store ignored, InfluxDB is not connected");
+            logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item);
         }
     }
 
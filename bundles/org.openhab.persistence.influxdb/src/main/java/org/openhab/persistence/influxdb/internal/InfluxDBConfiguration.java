@@ -40,6 +40,10 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String BATCH_SIZE_PARAM = "batchSize";
+    public static final String FLUSH_INTERVAL_PARAM = "flushInterval";
+    public static final String BUFFER_SIZE_PARAM = "bufferSize";
+    public static final String SPOOL_SIZE_PARAM = "spoolSize";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -52,6 +56,10 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int batchSize;
+    private final long flushInterval;
+    private final int bufferSize;
+    private final int spoolSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -65,6 +73,11 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        batchSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(BATCH_SIZE_PARAM), Integer.class, 500));
+        flushInterval = Math.max(10, ConfigParser.valueAsOrElse(config.get(FLUSH_INTERVAL_PARAM), Long.class, 1000L));
+        bufferSize = Math.max(batchSize,
+                ConfigParser.valueAsOrElse(config.get(BUFFER_SIZE_PARAM), Integer.class, 10000));
+        spoolSize = Math.max(0, ConfigParser.valueAsOrElse(config.get(SPOOL_SIZE_PARAM), Integer.class, 10));
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -143,6 +156,25 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return maximum size of the spool file in MB, 0 if the spool file is disabled
+     */
+    public int getSpoolSize() {
+        return spoolSize;
+    }
+
     public String getUser() {
         return user;
     }
@@ -161,6 +193,7 @@ public class InfluxDBConfiguration {
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", batchSize=" + batchSize + ", flushInterval=" + flushInterval
+                + ", bufferSize=" + bufferSize + ", spoolSize=" + spoolSize + '}';
     }
 }
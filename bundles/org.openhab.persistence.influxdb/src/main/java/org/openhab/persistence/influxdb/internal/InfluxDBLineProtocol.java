@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Serializes {@link InfluxPoint}s to the InfluxDB line protocol, which is understood by InfluxDB 1.X and 2.X. Points
+ * are written with millisecond precision.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBLineProtocol {
+
+    private InfluxDBLineProtocol() {
+    }
+
+    /**
+     * Converts a point to a line of the line protocol
+     *
+     * @param point the point
+     * @return the line without line break, or <code>null</code> if the value can't be represented in InfluxDB
+     */
+    public static @Nullable String toLine(InfluxPoint point) {
+        StringBuilder line = new StringBuilder(64);
+        escapeKey(line, point.getMeasurementName(), false);
+
+        // tags are sorted by key as recommended by InfluxDB, empty tag values are not allowed
+        Map<String, String> tags = new TreeMap<>(point.getTags());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            if (tag.getValue().isEmpty()) {
+                continue;
+            }
+            line.append(',');
+            escapeKey(line, tag.getKey(), true);
+            line.append('=');
+            escapeKey(line, tag.getValue(), true);
+        }
+
+        line.append(' ');
+        escapeKey(line, FIELD_VALUE_NAME, true);
+        line.append('=');
+        if (!appendValue(line, point.getValue())) {
+            return null;
+        }
+
+        line.append(' ').append(point.getTime().toEpochMilli());
+        return line.toString();
+    }
+
+    private static boolean appendValue(StringBuilder line, @Nullable Object value) {
+        if (value instanceof String) {
+            appendString(line, (String) value);
+        } else if (value instanceof Boolean) {
+            line.append(((Boolean) value).booleanValue());
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short
+                || value instanceof Byte || value instanceof BigInteger) {
+            line.append(value).append('i');
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                return false;
+            }
+            line.append(new BigDecimal(value.toString()).toPlainString());
+        } else if (value instanceof BigDecimal) {
+            line.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number) {
+            line.append(value);
+        } else if (value == null) {
+            appendString(line, "null");
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void appendString(StringBuilder line, String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private static void escapeKey(StringBuilder line, String key, boolean escapeEqual) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            switch (c) {
+                case '\n':
+                    line.append("\\n");
+                    continue;
+                case '\r':
+                    line.append("\\r");
+                    continue;
+                case '\t':
+                    line.append("\\t");
+                    continue;
+                case ' ':
+                case ',':
+                    line.append('\\');
+                    break;
+                case '=':
+                    if (escapeEqual) {
+                        line.append('\\');
+                    }
+                    break;
+                default:
+            }
+            line.append(c);
+        }
+    }
+}
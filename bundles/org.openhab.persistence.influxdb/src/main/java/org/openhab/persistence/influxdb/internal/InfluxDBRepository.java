@@ -68,12 +68,15 @@ public interface InfluxDBRepository {
     List<InfluxRow> query(String query);
 
     /**
-     * Write point to database
+     * Write points to database
      *
-     * @param influxPoint Point to write
-     * @throws UnexpectedConditionException when an error occurs
+     * @param lines Points to write in line protocol with millisecond precision, see {@link InfluxDBLineProtocol}
+     * @return <code>false</code> if the points could not be written and should be written again later, otherwise
+     *         <code>true</code>. Points which are rejected by the database as invalid are dropped and reported as
+     *         written, points which are refused because of the configuration (e.g. authorization or missing database)
+     *         are kept to be written again later.
      */
-    void write(InfluxPoint influxPoint) throws UnexpectedConditionException;
+    boolean write(List<String> lines);
 
     /**
      * create a query creator on this repository
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File storing lines of the line protocol which could not be written to InfluxDB, so they can be written later, even
+ * after a restart of openHAB. Lines are read in the order they were appended. The file is deleted as soon as all lines
+ * have been written.
+ *
+ * The read position is only kept in memory. After a restart lines may therefore be written again, which does not harm
+ * as InfluxDB replaces a point with the same series and timestamp.
+ *
+ * Every line is stored with its length in front, so a line which was cut off by a crash is detected and discarded.
+ * This class is not thread safe.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpoolFile {
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpoolFile.class);
+
+    private final Path path;
+    private final long maxSize;
+
+    private long size;
+    private long readPosition;
+    private long nextReadPosition;
+
+    /**
+     * Constructor of InfluxDBSpoolFile. Lines of an existing file are read again.
+     *
+     * @param path path of the file
+     * @param maxSize maximum size of the file in bytes, lines exceeding it are dropped
+     */
+    public InfluxDBSpoolFile(Path path, long maxSize) {
+        this.path = path;
+        this.maxSize = maxSize;
+        try {
+            size = Files.exists(path) ? Files.size(path) : 0;
+        } catch (IOException e) {
+            logger.warn("Failed to access spool file {}: {}", path, e.getMessage());
+        }
+    }
+
+    /**
+     * @return true if the file contains lines which have not been written yet
+     */
+    public boolean hasPending() {
+        return readPosition < size;
+    }
+
+    /**
+     * Reads the next lines without removing them. The lines are removed by calling {@link #commit()}.
+     *
+     * @param maxLines maximum number of lines to read
+     * @return the lines, empty if there are none or the file can't be read
+     */
+    public List<String> read(int maxLines) {
+        List<String> lines = new ArrayList<>();
+        long position = readPosition;
+        try (InputStream in = Files.newInputStream(path);
+                DataInputStream data = new DataInputStream(new BufferedInputStream(in))) {
+            data.skipNBytes(position);
+            while (lines.size() < maxLines && position < size) {
+                int length = data.readInt();
+                if (length < 0 || position + Integer.BYTES + length > size) {
+                    throw new EOFException();
+                }
+                byte[] bytes = new byte[length];
+                data.readFully(bytes);
+                lines.add(new String(bytes, StandardCharsets.UTF_8));
+                position += Integer.BYTES + length;
+            }
+        } catch (EOFException e) {
+            logger.warn("Discarding incomplete line at the end of spool file {}", path);
+            size = position;
+        } catch (IOException e) {
+            logger.warn("Failed to read spool file {}, discarding it: {}", path, e.getMessage());
+            delete();
+            return List.of();
+        }
+        nextReadPosition = position;
+        return lines;
+    }
+
+    /**
+     * Removes the lines returned by the last {@link #read(int)}.
+     */
+    public void commit() {
+        readPosition = nextReadPosition;
+        if (readPosition >= size) {
+            delete();
+        }
+    }
+
+    /**
+     * Appends lines to the file.
+     *
+     * @param lines lines to append
+     * @return the number of appended lines, the remaining lines did not fit into the file
+     */
+    public int append(List<String> lines) {
+        long startSize = size;
+        int appended = 0;
+        try {
+            Path directory = path.getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                // drop a line which was cut off, new lines must start at a line boundary
+                channel.truncate(size);
+                channel.position(size);
+                DataOutputStream data = new DataOutputStream(
+                        new BufferedOutputStream(Channels.newOutputStream(channel)));
+                for (String line : lines) {
+                    byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                    if (size + Integer.BYTES + bytes.length > maxSize) {
+                        break;
+                    }
+                    data.writeInt(bytes.length);
+                    data.write(bytes);
+                    size += Integer.BYTES + bytes.length;
+                    appended++;
+                }
+                data.flush();
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to write spool file {}: {}", path, e.getMessage());
+            // partially written lines are truncated by the next append
+            size = startSize;
+            return 0;
+        }
+        return appended;
+    }
+
+    private void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("Failed to delete spool file {}: {}", path, e.getMessage());
+        }
+        size = 0;
+        readPosition = 0;
+        nextReadPosition = 0;
+    }
+}
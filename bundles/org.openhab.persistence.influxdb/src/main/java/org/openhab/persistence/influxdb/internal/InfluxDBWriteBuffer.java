@@ -0,0 +1,275 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Buffers points and writes them in batches to an {@link InfluxDBRepository}. Points are serialized to the line
+ * protocol once when they are added, so the buffer works the same for all InfluxDB versions.
+ *
+ * A batch is written as soon as enough points have been collected or when the flush interval has passed. If writing
+ * fails, the points are kept and writing is retried later. The buffer is bounded: if a spool file is configured,
+ * points are moved to it once the buffer is half full, otherwise the oldest points are dropped when it is full. Points
+ * of the spool file are written before any buffered point, so the order of points is kept.
+ *
+ * Once stopped, the buffer rejects new points, as they would never be written.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBWriteBuffer {
+    private static final long RETRY_DELAY_MS = TimeUnit.SECONDS.toMillis(10);
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBWriteBuffer.class);
+
+    private final InfluxDBRepository repository;
+    private final ScheduledExecutorService scheduler;
+    private final int batchSize;
+    private final long flushInterval;
+    private final int bufferSize;
+    private final @Nullable InfluxDBSpoolFile spoolFile;
+
+    // lines which have not been written yet, oldest first, guarded by itself
+    private final Deque<String> buffer = new ArrayDeque<>();
+    private long droppedLines;
+    // guarded by buffer, so no point can be added after the last write of stop()
+    private boolean stopped;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> flushJob;
+    private long retryTime;
+
+    /**
+     * Constructor of InfluxDBWriteBuffer
+     *
+     * @param repository repository the points are written to
+     * @param scheduler scheduler used for writing, should provide a single thread as writes are serialized
+     * @param batchSize maximum number of points written at once
+     * @param flushInterval maximum time in milliseconds a point is kept before it is written
+     * @param bufferSize maximum number of points kept in memory
+     * @param spoolFile file for points which could not be written, <code>null</code> to keep them in memory only
+     */
+    public InfluxDBWriteBuffer(InfluxDBRepository repository, ScheduledExecutorService scheduler, int batchSize,
+            long flushInterval, int bufferSize, @Nullable InfluxDBSpoolFile spoolFile) {
+        this.repository = repository;
+        this.scheduler = scheduler;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.bufferSize = bufferSize;
+        this.spoolFile = spoolFile;
+    }
+
+    /**
+     * Starts writing. Points left in the spool file are written first.
+     */
+    public synchronized void start() {
+        synchronized (buffer) {
+            stopped = false;
+        }
+        InfluxDBSpoolFile spool = spoolFile;
+        if (spool != null && spool.hasPending()) {
+            logger.info("Writing points which could not be written before to InfluxDB");
+        }
+        flushJob = scheduler.scheduleWithFixedDelay(this::flush, 0, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops writing. A last attempt to write all points is made, points which could not be written are moved to the
+     * spool file.
+     */
+    public void stop() {
+        synchronized (buffer) {
+            stopped = true;
+        }
+        ScheduledFuture<?> job;
+        synchronized (this) {
+            job = flushJob;
+            flushJob = null;
+        }
+        if (job != null) {
+            job.cancel(false);
+        }
+        synchronized (this) {
+            if (System.currentTimeMillis() < retryTime || !writeBatches()) {
+                spool(0);
+            }
+        }
+        synchronized (buffer) {
+            if (!buffer.isEmpty()) {
+                logger.warn("{} points could not be written to InfluxDB and are lost", buffer.size());
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * Adds a point, it is written asynchronously.
+     *
+     * @param point the point
+     * @return <code>false</code> if the point can't be represented in InfluxDB or the buffer has been stopped,
+     *         otherwise <code>true</code>
+     */
+    public boolean add(InfluxPoint point) {
+        String line = InfluxDBLineProtocol.toLine(point);
+        if (line == null) {
+            return false;
+        }
+        synchronized (buffer) {
+            if (stopped) {
+                logger.debug("InfluxDB write buffer has been stopped, rejecting point {}", line);
+                return false;
+            }
+            while (buffer.size() >= bufferSize) {
+                buffer.removeFirst();
+                if (droppedLines++ == 0) {
+                    logger.warn("InfluxDB write buffer is full, dropping oldest points");
+                }
+            }
+            buffer.addLast(line);
+            if (buffer.size() < batchSize) {
+                return true;
+            }
+        }
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // the scheduler is shutting down, the point is written by stop()
+                flushRequested.set(false);
+                logger.debug("Could not request writing points: {}", e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of points kept in memory
+     */
+    public int getBufferedCount() {
+        synchronized (buffer) {
+            return buffer.size();
+        }
+    }
+
+    /**
+     * Writes all points, unless a previous write failed recently.
+     */
+    synchronized void flush() {
+        flushRequested.set(false);
+        if (System.currentTimeMillis() < retryTime || !writeBatches()) {
+            spool(bufferSize / 2);
+        }
+    }
+
+    /**
+     * Writes batches until all points are written or writing fails.
+     *
+     * @return <code>true</code> if all points have been written
+     */
+    private boolean writeBatches() {
+        while (true) {
+            InfluxDBSpoolFile spool = spoolFile;
+            boolean fromSpool = spool != null && spool.hasPending();
+            List<String> batch = spool != null && fromSpool ? spool.read(batchSize) : takeBatch();
+            if (batch.isEmpty()) {
+                if (fromSpool) {
+                    // the spool file was incomplete or could not be read
+                    continue;
+                }
+                return true;
+            }
+
+            if (!repository.isConnected()) {
+                if (!fromSpool) {
+                    requeue(batch);
+                }
+                return false;
+            }
+            if (!repository.write(batch)) {
+                if (!fromSpool) {
+                    requeue(batch);
+                }
+                retryTime = System.currentTimeMillis() + RETRY_DELAY_MS;
+                logger.debug("Writing {} points failed, retrying in {} ms", batch.size(), RETRY_DELAY_MS);
+                return false;
+            }
+            retryTime = 0;
+
+            if (spool != null && fromSpool) {
+                spool.commit();
+            }
+            synchronized (buffer) {
+                if (droppedLines > 0) {
+                    logger.warn("{} points were dropped because the InfluxDB write buffer was full", droppedLines);
+                    droppedLines = 0;
+                }
+            }
+        }
+    }
+
+    private List<String> takeBatch() {
+        synchronized (buffer) {
+            List<String> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+            while (batch.size() < batchSize && !buffer.isEmpty()) {
+                batch.add(buffer.removeFirst());
+            }
+            return batch;
+        }
+    }
+
+    private void requeue(List<String> batch) {
+        synchronized (buffer) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                buffer.addFirst(batch.get(i));
+            }
+        }
+    }
+
+    /**
+     * Moves all buffered points to the spool file if more than the given number of points are buffered.
+     */
+    private void spool(int threshold) {
+        InfluxDBSpoolFile spool = spoolFile;
+        if (spool == null) {
+            return;
+        }
+        List<String> lines;
+        synchronized (buffer) {
+            if (buffer.size() <= threshold) {
+                return;
+            }
+            lines = new ArrayList<>(buffer);
+            buffer.clear();
+        }
+        int spooled = spool.append(lines);
+        logger.debug("Moved {} points to the spool file", spooled);
+        if (spooled < lines.size()) {
+            // keep the points which did not fit in memory, the oldest are dropped when the buffer gets full
+            requeue(lines.subList(spooled, lines.size()));
+        }
+    }
+}
@@ -14,7 +14,6 @@ package org.openhab.persistence.influxdb.internal.influx1;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.COLUMN_TIME_NAME_V1;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.COLUMN_VALUE_NAME_V1;
-import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.FIELD_VALUE_NAME;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.TAG_ITEM_NAME;
 
 import java.time.Instant;
@@ -28,8 +27,8 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.influxdb.InfluxDB;
+import org.influxdb.InfluxDBException;
 import org.influxdb.InfluxDBFactory;
-import org.influxdb.dto.Point;
 import org.influxdb.dto.Pong;
 import org.influxdb.dto.Query;
 import org.influxdb.dto.QueryResult;
@@ -37,8 +36,6 @@ import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
-import org.openhab.persistence.influxdb.internal.InfluxPoint;
-import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,7 +71,6 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
                 configuration.getPassword());
         createdClient.setDatabase(configuration.getDatabaseName());
         createdClient.setRetentionPolicy(configuration.getRetentionPolicy());
-        createdClient.enableBatch(200, 100, TimeUnit.MILLISECONDS);
         this.client = createdClient;
         return checkConnectionStatus();
     }
@@ -113,33 +109,44 @@ public class InfluxDB1RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public void write(InfluxPoint point) throws UnexpectedConditionException {
+    public boolean write(List<String> lines) {
         final InfluxDB currentClient = this.client;
-        if (currentClient != null) {
-            Point clientPoint = convertPointToClientFormat(point);
-            currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(), clientPoint);
-        } else {
-            logger.warn("Write point {} ignored due to client isn't connected", point);
+        if (currentClient == null) {
+            logger.warn("Write of {} points deferred due to client isn't connected", lines.size());
+            return false;
+        }
+        try {
+            currentClient.write(configuration.getDatabaseName(), configuration.getRetentionPolicy(),
+                    InfluxDB.ConsistencyLevel.ONE, TimeUnit.MILLISECONDS, lines);
+            return true;
+        } catch (InfluxDBException e) {
+            if (isRejected(e)) {
+                logger.warn("Write of {} points rejected by database: {}", lines.size(), e.getMessage());
+                return true;
+            }
+            if (e.isRetryWorth()) {
+                logger.debug("Write of {} points failed, will be retried: {}", lines.size(), e.getMessage());
+            } else {
+                logger.warn("Write of {} points refused by database, will be retried: {}", lines.size(),
+                        e.getMessage());
+            }
+            return false;
+        } catch (RuntimeException e) {
+            logger.debug("Write of {} points failed, will be retried: {}", lines.size(), e.getMessage());
+            return false;
         }
     }
 
-    private Point convertPointToClientFormat(InfluxPoint point) throws UnexpectedConditionException {
-        Point.Builder clientPoint = Point.measurement(point.getMeasurementName()).time(point.getTime().toEpochMilli(),
-                TimeUnit.MILLISECONDS);
-        Object value = point.getValue();
-        if (value instanceof String) {
-            clientPoint.addField(FIELD_VALUE_NAME, (String) value);
-        } else if (value instanceof Number) {
-            clientPoint.addField(FIELD_VALUE_NAME, (Number) value);
-        } else if (value instanceof Boolean) {
-            clientPoint.addField(FIELD_VALUE_NAME, (Boolean) value);
-        } else if (value == null) {
-            clientPoint.addField(FIELD_VALUE_NAME, "null");
-        } else {
-            throw new UnexpectedConditionException("Not expected value type");
-        }
-        point.getTags().forEach(clientPoint::tag);
-        return clientPoint.build();
+    /**
+     * Returns whether points are rejected for good, e.g. because they are malformed or conflict with the type of
+     * existing fields. Failed authorization and a missing database can be fixed by the user, so the points are kept.
+     *
+     * @param e the exception of the failed write
+     * @return <code>true</code> if writing the points again can't succeed
+     */
+    static boolean isRejected(InfluxDBException e) {
+        return !e.isRetryWorth() && !(e instanceof InfluxDBException.AuthorizationFailedException)
+                && !(e instanceof InfluxDBException.DatabaseNotFoundException);
     }
 
     @Override
@@ -29,8 +29,6 @@ import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBConstants;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
-import org.openhab.persistence.influxdb.internal.InfluxPoint;
-import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,10 +36,10 @@ import com.influxdb.client.InfluxDBClient;
 import com.influxdb.client.InfluxDBClientFactory;
 import com.influxdb.client.InfluxDBClientOptions;
 import com.influxdb.client.QueryApi;
-import com.influxdb.client.WriteApi;
+import com.influxdb.client.WriteApiBlocking;
 import com.influxdb.client.domain.Ready;
 import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
+import com.influxdb.exceptions.InfluxException;
 import com.influxdb.query.FluxTable;
 
 /**
@@ -57,7 +55,7 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
 
     private @Nullable InfluxDBClient client;
     private @Nullable QueryApi queryAPI;
-    private @Nullable WriteApi writeAPI;
+    private @Nullable WriteApiBlocking writeAPI;
 
     public InfluxDB2RepositoryImpl(InfluxDBConfiguration configuration,
             InfluxDBMetadataService influxDBMetadataService) {
@@ -86,7 +84,7 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
         this.client = createdClient;
 
         queryAPI = createdClient.getQueryApi();
-        writeAPI = createdClient.getWriteApi();
+        writeAPI = createdClient.getWriteApiBlocking();
         logger.debug("Successfully connected to InfluxDB. Instance ready={}", createdClient.ready());
 
         return checkConnectionStatus();
@@ -120,34 +118,44 @@ public class InfluxDB2RepositoryImpl implements InfluxDBRepository {
     }
 
     @Override
-    public void write(InfluxPoint point) throws UnexpectedConditionException {
-        final WriteApi currentWriteAPI = writeAPI;
-        if (currentWriteAPI != null) {
-            currentWriteAPI.writePoint(convertPointToClientFormat(point));
-        } else {
-            logger.warn("Write point {} ignored due to writeAPI isn't present", point);
+    public boolean write(List<String> lines) {
+        final WriteApiBlocking currentWriteAPI = writeAPI;
+        if (currentWriteAPI == null) {
+            logger.warn("Write of {} points deferred due to writeAPI isn't present", lines.size());
+            return false;
+        }
+        try {
+            currentWriteAPI.writeRecords(WritePrecision.MS, lines);
+            return true;
+        } catch (InfluxException e) {
+            int status = e.status();
+            if (isRejected(status)) {
+                logger.warn("Write of {} points rejected by database: {}", lines.size(), e.getMessage());
+                return true;
+            }
+            if (status >= 400 && status < 500 && status != 429) {
+                logger.warn("Write of {} points refused by database, will be retried: {}", lines.size(),
+                        e.getMessage());
+            } else {
+                logger.debug("Write of {} points failed, will be retried: {}", lines.size(), e.getMessage());
+            }
+            return false;
+        } catch (RuntimeException e) {
+            logger.debug("Write of {} points failed, will be retried: {}", lines.size(), e.getMessage());
+            return false;
         }
     }
 
-    private Point convertPointToClientFormat(InfluxPoint point) throws UnexpectedConditionException {
-        Point clientPoint = Point.measurement(point.getMeasurementName()).time(point.getTime(), WritePrecision.MS);
-        setPointValue(point.getValue(), clientPoint);
-        point.getTags().forEach(clientPoint::addTag);
-        return clientPoint;
-    }
-
-    private void setPointValue(@Nullable Object value, Point point) throws UnexpectedConditionException {
-        if (value instanceof String) {
-            point.addField(FIELD_VALUE_NAME, (String) value);
-        } else if (value instanceof Number) {
-            point.addField(FIELD_VALUE_NAME, (Number) value);
-        } else if (value instanceof Boolean) {
-            point.addField(FIELD_VALUE_NAME, (Boolean) value);
-        } else if (value == null) {
-            point.addField(FIELD_VALUE_NAME, (String) null);
-        } else {
-            throw new UnexpectedConditionException("Not expected value type");
-        }
+    /**
+     * Returns whether points are rejected for good, because they are malformed (400) or conflict with the type of
+     * existing fields (422). Other client errors, like an expired token (401), a missing permission (403) or a missing
+     * bucket (404), can be fixed by the user, so the points are kept.
+     *
+     * @param status the HTTP status of the failed write
+     * @return <code>true</code> if writing the points again can't succeed
+     */
+    static boolean isRejected(int status) {
+        return status == 400 || status == 422;
     }
 
     @Override
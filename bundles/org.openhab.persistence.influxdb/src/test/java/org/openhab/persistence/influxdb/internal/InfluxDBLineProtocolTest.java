@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBLineProtocolTest {
+    private static final Instant TIME = Instant.ofEpochMilli(1558302027124L);
+
+    @Test
+    public void numberValues() {
+        assertThat(line(new BigDecimal("12.50")), equalTo("temp,item=temp value=12.50 1558302027124"));
+        assertThat(line(1), equalTo("temp,item=temp value=1i 1558302027124"));
+        assertThat(line(1.0E10), equalTo("temp,item=temp value=10000000000 1558302027124"));
+        assertThat(line(Double.NaN), nullValue());
+    }
+
+    @Test
+    public void stringAndBooleanValues() {
+        assertThat(line("say \"hi\" \\o/"), equalTo("temp,item=temp value=\"say \\\"hi\\\" \\\\o/\" 1558302027124"));
+        assertThat(line(true), equalTo("temp,item=temp value=true 1558302027124"));
+    }
+
+    @Test
+    public void escapedAndSortedTags() {
+        InfluxPoint point = InfluxPoint.newBuilder("living room,temp").withTime(TIME).withValue(21)
+                .withTag("item", "my item").withTag("floor", "a=b").withTag("label", "").build();
+        assertThat(InfluxDBLineProtocol.toLine(point),
+                equalTo("living\\ room\\,temp,floor=a\\=b,item=my\\ item value=21i 1558302027124"));
+    }
+
+    private @Nullable String line(Object value) {
+        InfluxPoint point = InfluxPoint.newBuilder("temp").withTime(TIME).withValue(value).withTag("item", "temp")
+                .build();
+        return InfluxDBLineProtocol.toLine(point);
+    }
+}
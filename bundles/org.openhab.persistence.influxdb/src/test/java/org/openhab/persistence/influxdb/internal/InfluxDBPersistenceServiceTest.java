@@ -13,16 +13,19 @@
 package org.openhab.persistence.influxdb.internal;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.DATABASE_PARAM;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.FLUSH_INTERVAL_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.PASSWORD_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.RETENTION_POLICY_PARAM;
+import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.SPOOL_SIZE_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.TOKEN_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.URL_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.USER_PARAM;
 import static org.openhab.persistence.influxdb.internal.InfluxDBConfiguration.VERSION_PARAM;
 
+import java.math.BigDecimal;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -54,6 +57,15 @@ public class InfluxDBPersistenceServiceTest {
             DATABASE_PARAM, "openhab", //
             RETENTION_POLICY_PARAM, "default");
 
+    private static final Map<String, Object> BUFFERED_V2_CONFIGURATION = Map.of( //
+            URL_PARAM, "http://localhost:8086", //
+            VERSION_PARAM, InfluxDBVersion.V2.name(), //
+            TOKEN_PARAM, "sampletoken", //
+            DATABASE_PARAM, "openhab", //
+            RETENTION_POLICY_PARAM, "default", //
+            FLUSH_INTERVAL_PARAM, BigDecimal.valueOf(100), //
+            SPOOL_SIZE_PARAM, BigDecimal.ZERO);
+
     private static final Map<String, Object> INVALID_V1_CONFIGURATION = Map.of(//
             URL_PARAM, "http://localhost:8086", //
             VERSION_PARAM, InfluxDBVersion.V1.name(), //
@@ -102,19 +114,26 @@ public class InfluxDBPersistenceServiceTest {
     }
 
     @Test
-    public void storeItemWithConnectedRepository() throws UnexpectedConditionException {
-        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+    public void storeItemWithConnectedRepository() {
+        InfluxDBPersistenceService instance = getService(BUFFERED_V2_CONFIGURATION);
         when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(influxDBRepositoryMock.write(anyList())).thenReturn(true);
         instance.store(ItemTestHelper.createNumberItem("number", 5));
-        verify(influxDBRepositoryMock).write(any());
+        verify(influxDBRepositoryMock, timeout(5000)).write(anyList());
+        instance.deactivate();
     }
 
     @Test
-    public void storeItemWithDisconnectedRepositoryIsIgnored() throws UnexpectedConditionException {
-        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+    public void storeItemWithDisconnectedRepositoryIsWrittenAfterReconnection() {
+        InfluxDBPersistenceService instance = getService(BUFFERED_V2_CONFIGURATION);
         when(influxDBRepositoryMock.isConnected()).thenReturn(false);
         instance.store(ItemTestHelper.createNumberItem("number", 5));
-        verify(influxDBRepositoryMock, never()).write(any());
+        verify(influxDBRepositoryMock, after(300).never()).write(anyList());
+
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(influxDBRepositoryMock.write(anyList())).thenReturn(true);
+        verify(influxDBRepositoryMock, timeout(5000)).write(anyList());
+        instance.deactivate();
     }
 
     private InfluxDBPersistenceService getService(Map<String, Object> config) {
@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class InfluxDBWriteBufferTest {
+    private @Mock @NonNullByDefault({}) InfluxDBRepository repository;
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    private final List<String> written = new ArrayList<>();
+    private boolean connected = true;
+    private boolean databaseReachable = true;
+
+    @BeforeEach
+    public void setUp() {
+        when(repository.isConnected()).thenAnswer(invocation -> connected);
+        when(repository.write(anyList())).thenAnswer(invocation -> {
+            if (!databaseReachable) {
+                return false;
+            }
+            written.addAll(invocation.getArgument(0));
+            return true;
+        });
+    }
+
+    @Test
+    public void pointsAreWrittenInBatches() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, scheduler, 2, 1000, 10, null);
+        addPoints(buffer, 0, 5);
+        // a flush is requested once a batch is complete
+        verify(scheduler).execute(any());
+
+        buffer.flush();
+
+        verify(repository, times(3)).write(anyList());
+        assertThat(written, hasSize(5));
+        assertThat(buffer.getBufferedCount(), is(0));
+    }
+
+    @Test
+    public void oldestPointsAreDroppedWhenBufferIsFull() {
+        connected = false;
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, scheduler, 2, 1000, 4, null);
+        addPoints(buffer, 0, 3);
+        buffer.flush();
+        addPoints(buffer, 3, 6);
+        assertThat(buffer.getBufferedCount(), is(4));
+
+        connected = true;
+        buffer.flush();
+        assertThat(written, contains(line(2), line(3), line(4), line(5)));
+    }
+
+    @Test
+    public void spooledPointsAreWrittenFirstAfterRestart() throws Exception {
+        Path spoolPath = tempDir.resolve("spool.dat");
+        databaseReachable = false;
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, scheduler, 2, 1000, 4,
+                new InfluxDBSpoolFile(spoolPath, 1024 * 1024));
+        addPoints(buffer, 0, 3);
+        // more than half of the buffer is moved to the spool file
+        buffer.flush();
+        assertThat(buffer.getBufferedCount(), is(0));
+        addPoints(buffer, 3, 4);
+        buffer.stop();
+        assertThat(Files.exists(spoolPath), is(true));
+
+        databaseReachable = true;
+        buffer = new InfluxDBWriteBuffer(repository, scheduler, 2, 1000, 4,
+                new InfluxDBSpoolFile(spoolPath, 1024 * 1024));
+        addPoints(buffer, 4, 5);
+        buffer.flush();
+
+        assertThat(written, contains(line(0), line(1), line(2), line(3), line(4)));
+        assertThat(Files.exists(spoolPath), is(false));
+    }
+
+    @Test
+    public void pointsAreRejectedAfterStop() {
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, scheduler, 2, 1000, 10, null);
+        addPoints(buffer, 0, 1);
+        buffer.stop();
+        assertThat(written, contains(line(0)));
+
+        assertFalse(buffer.add(point(1)));
+        assertThat(buffer.getBufferedCount(), is(0));
+        verify(scheduler, never()).execute(any());
+    }
+
+    @Test
+    public void rejectedFlushKeepsPointsBuffered() {
+        doThrow(new RejectedExecutionException("shut down")).when(scheduler).execute(any());
+        InfluxDBWriteBuffer buffer = new InfluxDBWriteBuffer(repository, scheduler, 2, 1000, 10, null);
+
+        assertTrue(buffer.add(point(0)));
+        assertTrue(buffer.add(point(1)));
+        assertThat(buffer.getBufferedCount(), is(2));
+
+        buffer.stop();
+        assertThat(written, contains(line(0), line(1)));
+    }
+
+    private void addPoints(InfluxDBWriteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            buffer.add(point(i));
+        }
+    }
+
+    private InfluxPoint point(int i) {
+        return InfluxPoint.newBuilder("temp").withTime(Instant.ofEpochMilli(i)).withValue(i).withTag("item", "temp")
+                .build();
+    }
+
+    private String line(int i) {
+        return "temp,item=temp value=" + i + "i " + i;
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal.influx1;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.influxdb.InfluxDBException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests which write errors make the {@link InfluxDB1RepositoryImpl} drop points.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDB1RepositoryImplTest {
+
+    @Test
+    public void invalidPointsAreRejected() {
+        assertTrue(InfluxDB1RepositoryImpl.isRejected(
+                InfluxDBException.buildExceptionForErrorState("partial write: field type conflict")));
+        assertTrue(InfluxDB1RepositoryImpl
+                .isRejected(InfluxDBException.buildExceptionForErrorState("unable to parse 'temp value=x'")));
+    }
+
+    @Test
+    public void pointsAreKeptOnConfigurationErrors() {
+        assertFalse(InfluxDB1RepositoryImpl
+                .isRejected(InfluxDBException.buildExceptionForErrorState("authorization failed")));
+        assertFalse(InfluxDB1RepositoryImpl
+                .isRejected(InfluxDBException.buildExceptionForErrorState("database not found: \"openhab\"")));
+    }
+
+    @Test
+    public void pointsAreKeptOnTemporaryErrors() {
+        assertFalse(InfluxDB1RepositoryImpl
+                .isRejected(InfluxDBException.buildExceptionForErrorState("cache-max-memory-size exceeded")));
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal.influx2;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests which write errors make the {@link InfluxDB2RepositoryImpl} drop points.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDB2RepositoryImplTest {
+
+    @Test
+    public void invalidPointsAreRejected() {
+        assertTrue(InfluxDB2RepositoryImpl.isRejected(400));
+        assertTrue(InfluxDB2RepositoryImpl.isRejected(422));
+    }
+
+    @Test
+    public void pointsAreKeptOnConfigurationErrors() {
+        assertFalse(InfluxDB2RepositoryImpl.isRejected(401));
+        assertFalse(InfluxDB2RepositoryImpl.isRejected(403));
+        assertFalse(InfluxDB2RepositoryImpl.isRejected(404));
+    }
+
+    @Test
+    public void pointsAreKeptOnTemporaryErrors() {
+        assertFalse(InfluxDB2RepositoryImpl.isRejected(429));
+        assertFalse(InfluxDB2RepositoryImpl.isRejected(500));
+        assertFalse(InfluxDB2RepositoryImpl.isRejected(503));
+    }
+}
@@ -65,6 +65,14 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private int writeBufferSize = 0;
+    private int writeBatchSize = 100;
+    private long writeFlushInterval = 1000;
+    private JdbcWriteBuffer.OverflowPolicy writeBufferOverflow = JdbcWriteBuffer.OverflowPolicy.BLOCK;
+
+    private int queryFetchSize = 0;
+    private int queryAggregationBuckets = 0;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -189,6 +197,48 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String wb = (String) configuration.get("writeBufferSize");
+        if (wb != null && !wb.isBlank() && isNumericPattern.matcher(wb).matches()) {
+            writeBufferSize = Integer.parseInt(wb);
+            logger.debug("JDBC::updateConfig: writeBufferSize={}", writeBufferSize);
+        }
+
+        String ws = (String) configuration.get("writeBatchSize");
+        if (ws != null && !ws.isBlank() && isNumericPattern.matcher(ws).matches()) {
+            writeBatchSize = Integer.parseInt(ws);
+            logger.debug("JDBC::updateConfig: writeBatchSize={}", writeBatchSize);
+        }
+
+        String wi = (String) configuration.get("writeFlushInterval");
+        if (wi != null && !wi.isBlank() && isNumericPattern.matcher(wi).matches()) {
+            writeFlushInterval = Long.parseLong(wi);
+            logger.debug("JDBC::updateConfig: writeFlushInterval={}", writeFlushInterval);
+        }
+
+        String wo = (String) configuration.get("writeBufferOverflow");
+        if (wo != null && !wo.isBlank()) {
+            writeBufferOverflow = JdbcWriteBuffer.OverflowPolicy.fromConfig(wo);
+            logger.debug("JDBC::updateConfig: writeBufferOverflow={}", writeBufferOverflow);
+        }
+
+        String qf = (String) configuration.get("queryFetchSize");
+        if (qf != null && !qf.isBlank() && isNumericPattern.matcher(qf).matches()) {
+            queryFetchSize = Integer.parseInt(qf);
+            logger.debug("JDBC::updateConfig: queryFetchSize={}", queryFetchSize);
+        }
+
+        String qa = (String) configuration.get("queryAggregationBuckets");
+        if (qa != null && !qa.isBlank() && isNumericPattern.matcher(qa).matches()) {
+            queryAggregationBuckets = Integer.parseInt(qa);
+            logger.debug("JDBC::updateConfig: queryAggregationBuckets={}", queryAggregationBuckets);
+        }
+
+        String ps = (String) configuration.get("preparedStatementCacheSize");
+        if (ps != null && !ps.isBlank() && isNumericPattern.matcher(ps).matches()) {
+            dBDAO.setPreparedStatementCacheSize(Integer.parseInt(ps));
+            logger.debug("JDBC::updateConfig: preparedStatementCacheSize={}", ps);
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -394,6 +444,30 @@ public class JdbcConfiguration {
         return tableUseRealItemNames && tableCaseSensitiveItemNames;
     }
 
+    public int getWriteBufferSize() {
+        return writeBufferSize;
+    }
+
+    public int getWriteBatchSize() {
+        return writeBatchSize;
+    }
+
+    public long getWriteFlushInterval() {
+        return writeFlushInterval;
+    }
+
+    public JdbcWriteBuffer.OverflowPolicy getWriteBufferOverflow() {
+        return writeBufferOverflow;
+    }
+
+    public int getQueryFetchSize() {
+        return queryFetchSize;
+    }
+
+    public int getQueryAggregationBuckets() {
+        return queryAggregationBuckets;
+    }
+
     public int getTableIdDigitCount() {
         return tableIdDigitCount;
     }
@@ -421,6 +495,8 @@ public class JdbcConfiguration {
         dBDAO.initAfterFirstDbConnection();
         // Running once again to prior external configured SqlTypes!
         setSqlTypes();
+        // SQL templates and types may have changed
+        dBDAO.invalidateSqlCache();
         this.dbConnected = dbConnected;
     }
 
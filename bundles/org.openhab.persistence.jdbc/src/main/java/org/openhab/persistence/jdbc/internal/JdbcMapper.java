@@ -16,6 +16,7 @@ import java.sql.SQLInvalidAuthorizationSpecException;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,8 +33,10 @@ import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceItemInfo;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.db.AggregateFunction;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcPersistenceItemInfo;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
@@ -142,6 +145,7 @@ public class JdbcMapper {
         logger.debug("JDBC::dropTable");
         long timerStart = System.currentTimeMillis();
         conf.getDBDAO().doDropTable(tableName);
+        conf.getDBDAO().invalidateSqlCache(tableName);
         logTime("doDropTable", timerStart, System.currentTimeMillis());
     }
 
@@ -192,7 +196,17 @@ public class JdbcMapper {
     private void updateItemTableNames(List<ItemVO> vol) throws JdbcSQLException {
         logger.debug("JDBC::updateItemTableNames");
         long timerStart = System.currentTimeMillis();
-        conf.getDBDAO().doUpdateItemTableNames(vol);
+        try {
+            conf.getDBDAO().doUpdateItemTableNames(vol);
+        } finally {
+            for (ItemVO vo : vol) {
+                conf.getDBDAO().invalidateSqlCache(vo.getTableName());
+                String newTableName = vo.getNewTableName();
+                if (newTableName != null) {
+                    conf.getDBDAO().invalidateSqlCache(newTableName);
+                }
+            }
+        }
         logTime("updateItemTableNames", timerStart, System.currentTimeMillis());
     }
 
@@ -208,7 +222,11 @@ public class JdbcMapper {
             throws JdbcSQLException {
         logger.debug("JDBC::alterTableColumn");
         long timerStart = System.currentTimeMillis();
-        conf.getDBDAO().doAlterTableColumn(tableName, columnName, columnType, nullable);
+        try {
+            conf.getDBDAO().doAlterTableColumn(tableName, columnName, columnType, nullable);
+        } finally {
+            conf.getDBDAO().invalidateSqlCache(tableName);
+        }
         logTime("alterTableColumn", timerStart, System.currentTimeMillis());
     }
 
@@ -225,6 +243,43 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    /**
+     * Stores the given values, using one batch per item table.
+     *
+     * @param values values to store
+     * @return the values which could not be stored
+     */
+    protected List<ItemValueVO> storeItemValues(List<ItemValueVO> values) {
+        logger.debug("JDBC::storeItemValues: {} values", values.size());
+        long timerStart = System.currentTimeMillis();
+        Map<String, List<ItemValueVO>> valuesByTable = new LinkedHashMap<>();
+        List<ItemValueVO> failed = new ArrayList<>();
+        for (ItemValueVO value : values) {
+            try {
+                valuesByTable.computeIfAbsent(getTable(value.getItem()), t -> new ArrayList<>()).add(value);
+            } catch (JdbcException e) {
+                logger.warn("JDBC::storeItemValues: Unable to find table for item '{}'", value.getItem().getName(), e);
+                failed.add(value);
+                errCnt++;
+            }
+        }
+        for (Map.Entry<String, List<ItemValueVO>> entry : valuesByTable.entrySet()) {
+            try {
+                conf.getDBDAO().doStoreItemValues(entry.getKey(), entry.getValue());
+            } catch (JdbcSQLException e) {
+                logger.warn("JDBC::storeItemValues: Unable to store {} values in table '{}'", entry.getValue().size(),
+                        entry.getKey(), e);
+                failed.addAll(entry.getValue());
+                errCnt++;
+            }
+        }
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        if (failed.isEmpty()) {
+            errCnt = 0;
+        }
+        return failed;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -242,6 +297,31 @@ public class JdbcMapper {
         return result;
     }
 
+    protected @Nullable List<HistoricItem> getHistItemAggregateQuery(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item, long bucketSeconds, AggregateFunction function) throws JdbcSQLException {
+        logger.debug("JDBC::getHistItemAggregateQuery table='{}' itemName='{}' bucketSeconds='{}' function='{}'",
+                table, item.getName(), bucketSeconds, function);
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetHistItemAggregateQuery(item, filter, numberDecimalcount,
+                table, timeZoneProvider.getTimeZone(), bucketSeconds, function);
+        logTime("getHistItemAggregateQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
+    protected List<HistoricItem> getHistItemFilterQueryCursor(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item) throws JdbcSQLException {
+        logger.debug(
+                "JDBC::getHistItemFilterQueryCursor filter='{}' numberDecimalcount='{}' table='{}' item='{}' itemName='{}'",
+                true, numberDecimalcount, table, item, item.getName());
+        long timerStart = System.currentTimeMillis();
+        List<HistoricItem> result = conf.getDBDAO().doGetHistItemFilterQueryCursor(item, filter, numberDecimalcount,
+                table, item.getName(), timeZoneProvider.getTimeZone(), conf.getQueryFetchSize());
+        logTime("getHistItemFilterQueryCursor", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
@@ -12,6 +12,7 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -31,6 +32,10 @@ import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.ColorItem;
+import org.openhab.core.library.items.DimmerItem;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.items.RollershutterItem;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.ModifiablePersistenceService;
@@ -40,8 +45,10 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.jdbc.internal.db.AggregateFunction;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
 import org.openhab.persistence.jdbc.internal.dto.Column;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -67,9 +74,13 @@ import org.slf4j.LoggerFactory;
 @ConfigurableService(category = "persistence", label = "JDBC Persistence Service", description_uri = JdbcPersistenceServiceConstants.CONFIG_URI)
 public class JdbcPersistenceService extends JdbcMapper implements ModifiablePersistenceService {
 
+    // maximum time a query waits for buffered values to be written
+    private static final long QUERY_FLUSH_TIMEOUT_MS = 10000;
+
     private final Logger logger = LoggerFactory.getLogger(JdbcPersistenceService.class);
 
     private final ItemRegistry itemRegistry;
+    private @Nullable JdbcWriteBuffer writeBuffer;
 
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -114,6 +125,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        stopWriteBuffer();
         // closeConnection();
         initialized = false;
     }
@@ -157,6 +169,12 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
                     state, item, errCnt, conf.getErrReconnectThreshold());
             return;
         }
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            // the timestamp is taken now as the value will be written later
+            writeBuffer.add(new ItemValueVO(item, state, date == null ? ZonedDateTime.now() : date));
+            return;
+        }
         try {
             long timerStart = System.currentTimeMillis();
             storeItemValue(item, state, date);
@@ -188,58 +206,201 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
         }
+        flushWriteBuffer();
 
         // Get the item name from the filter
         // Also get the Item object so we can determine the type
-        Item item = null;
         String itemName = filter.getItemName();
-        logger.debug("JDBC::query: item is {}", itemName);
-        try {
-            item = itemRegistry.getItem(itemName);
-        } catch (ItemNotFoundException e1) {
-            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+        Item item = getQueryItem(itemName);
+        if (item == null) {
             return List.of();
         }
 
-        if (item instanceof GroupItem) {
-            // For Group Item is BaseItem needed to get correct Type of Value.
-            item = GroupItem.class.cast(item).getBaseItem();
-            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
-            if (item == null) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
-                return List.of();
+        String table = itemNameToTableNameMap.get(itemName);
+        if (table == null) {
+            logger.debug("JDBC::query: unable to find table for item with name: '{}', no data in database.", itemName);
+            return List.of();
+        }
+
+        try {
+            long timerStart = System.currentTimeMillis();
+            List<HistoricItem> items = null;
+            long bucketSeconds = isAggregatable(item)
+                    ? aggregationBucketSeconds(filter, conf.getQueryAggregationBuckets())
+                    : 0;
+            if (bucketSeconds > 0) {
+                // null if the database does not support aggregated queries, then the raw values are queried
+                items = getHistItemAggregateQuery(filter, conf.getNumberDecimalcount(), table, item, bucketSeconds,
+                        AggregateFunction.AVG);
             }
-            if (item instanceof GroupItem) {
-                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
-                return List.of();
+            if (items == null) {
+                items = conf.getQueryFetchSize() > 0
+                        ? getHistItemFilterQueryCursor(filter, conf.getNumberDecimalcount(), table, item)
+                        : getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
             }
+            if (logger.isDebugEnabled()) {
+                logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
+                        System.currentTimeMillis() - timerStart);
+            }
+            // Success
+            errCnt = 0;
+            return items;
+        } catch (JdbcSQLException e) {
+            logger.warn("JDBC::query: Unable to query item", e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Queries the values of a numeric item aggregated into time buckets by the database, e.g. for charts over long
+     * periods, where only one value per bucket is needed.
+     *
+     * @param filter the filter to apply to the query, paging applies to the buckets
+     * @param bucket length of the time buckets, at least one second
+     * @param function the aggregation applied to the values of each bucket
+     * @return one value per bucket containing values, or an empty list if the item is not numeric or the database
+     *         does not support aggregated queries
+     */
+    public Iterable<HistoricItem> queryAggregated(FilterCriteria filter, Duration bucket, AggregateFunction function) {
+        if (!checkDBAccessability()) {
+            logger.warn("JDBC::queryAggregated: database not connected, query aborted for item '{}'",
+                    filter.getItemName());
+            return List.of();
+        }
+        flushWriteBuffer();
+
+        String itemName = filter.getItemName();
+        Item item = getQueryItem(itemName);
+        if (item == null) {
+            return List.of();
+        }
+        if (!isAggregatable(item)) {
+            logger.warn("JDBC::queryAggregated: values of item '{}' with type {} can not be aggregated", itemName,
+                    item.getType());
+            return List.of();
         }
 
         String table = itemNameToTableNameMap.get(itemName);
         if (table == null) {
-            logger.debug("JDBC::query: unable to find table for item with name: '{}', no data in database.", itemName);
+            logger.debug("JDBC::queryAggregated: unable to find table for item with name: '{}', no data in database.",
+                    itemName);
             return List.of();
         }
 
         try {
             long timerStart = System.currentTimeMillis();
-            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            List<HistoricItem> items = getHistItemAggregateQuery(filter, conf.getNumberDecimalcount(), table, item,
+                    Math.max(1, bucket.getSeconds()), function);
+            if (items == null) {
+                logger.warn("JDBC::queryAggregated: aggregated queries are not supported for database '{}'",
+                        conf.getDbName());
+                return List.of();
+            }
             if (logger.isDebugEnabled()) {
-                logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
+                logger.debug("JDBC: Aggregated query for item '{}' returned {} rows in {} ms", itemName, items.size(),
                         System.currentTimeMillis() - timerStart);
             }
             // Success
             errCnt = 0;
             return items;
         } catch (JdbcSQLException e) {
-            logger.warn("JDBC::query: Unable to query item", e);
+            logger.warn("JDBC::queryAggregated: Unable to query item", e);
             return List.of();
         }
     }
 
+    /**
+     * Returns whether the values of an item are numeric and can be aggregated by the database.
+     */
+    private static boolean isAggregatable(Item item) {
+        return item instanceof NumberItem || item instanceof RollershutterItem
+                || (item instanceof DimmerItem && !(item instanceof ColorItem));
+    }
+
+    /**
+     * Calculates the bucket length for answering a query with aggregated values. Only queries for a time range
+     * without paging are aggregated, paged queries ask for single values, e.g. the latest ones.
+     *
+     * @param filter the filter of the query
+     * @param buckets the maximum number of values to return, 0 disables aggregation
+     * @return the bucket length in seconds, or 0 if the raw values are to be queried
+     */
+    static long aggregationBucketSeconds(FilterCriteria filter, int buckets) {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (buckets <= 0 || beginDate == null || endDate == null || filter.getPageSize() != Integer.MAX_VALUE) {
+            return 0;
+        }
+        long rangeSeconds = Duration.between(beginDate, endDate).getSeconds();
+        if (rangeSeconds <= buckets) {
+            // buckets of one second would not reduce the number of rows
+            return 0;
+        }
+        return (rangeSeconds + buckets - 1) / buckets;
+    }
+
+    /**
+     * Writes values of the write buffer, checking the connection like {@link #store(Item)} does for single values.
+     *
+     * @param values the values to store
+     * @return the values which could not be stored and are retried by the write buffer
+     */
+    private List<ItemValueVO> storeBufferedValues(List<ItemValueVO> values) {
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::store: No connection to database. Cannot persist {} buffered values yet! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    values.size(), errCnt, conf.getErrReconnectThreshold());
+            return values;
+        }
+        return storeItemValues(values);
+    }
+
+    /**
+     * Writes values accepted by {@link #store(Item)} before querying, so queries return the latest values.
+     */
+    private void flushWriteBuffer() {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null && !writeBuffer.flushAndWait(QUERY_FLUSH_TIMEOUT_MS)) {
+            logger.debug("JDBC::query: buffered values not yet written, query may miss recent values");
+        }
+    }
+
+    /**
+     * Returns the item to query for, or the base item for group items.
+     *
+     * @param itemName the name of the item to query for
+     * @return the item, or null if no item with a base type exists
+     */
+    private @Nullable Item getQueryItem(String itemName) {
+        Item item = null;
+        logger.debug("JDBC::query: item is {}", itemName);
+        try {
+            item = itemRegistry.getItem(itemName);
+        } catch (ItemNotFoundException e1) {
+            logger.error("JDBC::query: unable to get item for itemName: '{}'. Ignore and give up!", itemName);
+            return null;
+        }
+
+        if (item instanceof GroupItem) {
+            // For Group Item is BaseItem needed to get correct Type of Value.
+            item = GroupItem.class.cast(item).getBaseItem();
+            logger.debug("JDBC::query: item is instanceof GroupItem '{}'", itemName);
+            if (item == null) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is null. Ignore and give up!");
+                return null;
+            }
+            if (item instanceof GroupItem) {
+                logger.debug("JDBC::query: BaseItem of GroupItem is a GroupItem too. Ignore and give up!");
+                return null;
+            }
+        }
+        return item;
+    }
+
     public void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopWriteBuffer();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -255,9 +416,30 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             initialized = false;
         }
 
+        if (conf.valid && conf.getWriteBufferSize() > 0) {
+            writeBuffer = new JdbcWriteBuffer(conf.getWriteBufferSize(), conf.getWriteBatchSize(),
+                    conf.getWriteFlushInterval(), conf.getWriteBufferOverflow(), this::storeBufferedValues);
+            logger.debug("JDBC::updateConfig: write buffer enabled with {} values", conf.getWriteBufferSize());
+        }
+
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
 
+    private void stopWriteBuffer() {
+        JdbcWriteBuffer writeBuffer = this.writeBuffer;
+        if (writeBuffer != null) {
+            this.writeBuffer = null;
+            writeBuffer.close();
+        }
+    }
+
+    /**
+     * Get the write buffer, if buffered writes are enabled.
+     */
+    public @Nullable JdbcWriteBuffer getWriteBuffer() {
+        return writeBuffer;
+    }
+
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.CHANGE);
@@ -269,6 +451,8 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn("JDBC::remove: database not connected, remove aborted for item '{}'", filter.getItemName());
             return false;
         }
+        // buffered values must not be written after they have been removed
+        flushWriteBuffer();
 
         // Get the item name from the filter
         // Also get the Item object so we can determine the type
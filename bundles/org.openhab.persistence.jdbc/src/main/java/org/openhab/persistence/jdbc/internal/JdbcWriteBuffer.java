@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded write-behind buffer for item values.
+ *
+ * Values are queued by the calling thread and written by a single background thread, either when
+ * {@code batchSize} values are pending or when {@code flushInterval} has elapsed, whatever comes first.
+ * Values which could not be written are put back in front of the buffer and retried with the next flush.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBuffer {
+
+    /**
+     * Defines what happens when a value is added while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** The calling thread waits until there is room in the buffer. */
+        BLOCK,
+        /** The new value is discarded. */
+        DROP_NEWEST,
+        /** The oldest pending value is discarded to make room for the new one. */
+        DROP_OLDEST;
+
+        public static OverflowPolicy fromConfig(@Nullable String value) {
+            if (value != null) {
+                for (OverflowPolicy policy : values()) {
+                    if (policy.name().replace("_", "").equalsIgnoreCase(value.replace("_", ""))) {
+                        return policy;
+                    }
+                }
+            }
+            return BLOCK;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcWriteBuffer.class);
+
+    private final BlockingDeque<ItemValueVO> queue;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushInterval;
+    private final OverflowPolicy overflowPolicy;
+    private final Function<List<ItemValueVO>, List<ItemValueVO>> writer;
+    private final ScheduledExecutorService scheduler;
+    private final ScheduledFuture<?> flushJob;
+    private final AtomicBoolean flushPending = new AtomicBoolean();
+    private volatile boolean closed = false;
+    private volatile boolean writing = false;
+
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private volatile long lastFlushDuration = 0;
+    private volatile long maxFlushDuration = 0;
+
+    /**
+     * Creates a new buffer and starts its background writer.
+     *
+     * @param capacity maximum number of pending values
+     * @param batchSize maximum number of values handed to the writer at once
+     * @param flushInterval maximum time in milliseconds a value is kept in the buffer
+     * @param overflowPolicy what to do when the buffer is full
+     * @param writer stores the given values and returns the values which could not be stored
+     */
+    public JdbcWriteBuffer(int capacity, int batchSize, long flushInterval, OverflowPolicy overflowPolicy,
+            Function<List<ItemValueVO>, List<ItemValueVO>> writer) {
+        this.capacity = capacity;
+        this.batchSize = Math.max(1, Math.min(batchSize, capacity));
+        this.flushInterval = Math.max(1, flushInterval);
+        this.overflowPolicy = overflowPolicy;
+        this.writer = writer;
+        this.queue = new LinkedBlockingDeque<>(capacity);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("jdbc-writer"));
+        this.flushJob = scheduler.scheduleWithFixedDelay(this::flush, this.flushInterval, this.flushInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a value to the buffer, applying the configured {@link OverflowPolicy} if the buffer is full.
+     *
+     * @param value the value to store
+     * @return true if the value was accepted, false if it was discarded
+     */
+    public boolean add(ItemValueVO value) {
+        if (closed) {
+            logger.debug("JDBC::add: write buffer is closed, discarding {}", value);
+            return false;
+        }
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                if (!queue.offer(value)) {
+                    dropped(value);
+                    return false;
+                }
+                break;
+            case DROP_OLDEST:
+                while (!queue.offer(value)) {
+                    ItemValueVO oldest = queue.poll();
+                    if (oldest != null) {
+                        dropped(oldest);
+                    }
+                }
+                break;
+            case BLOCK:
+            default:
+                try {
+                    queue.put(value);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped(value);
+                    return false;
+                }
+                break;
+        }
+        queuedCount.incrementAndGet();
+        if (queue.size() >= batchSize && flushPending.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flush);
+            } catch (RuntimeException e) {
+                // scheduler has been shut down concurrently, remaining values are flushed by close()
+                flushPending.set(false);
+            }
+        }
+        return true;
+    }
+
+    private void dropped(ItemValueVO value) {
+        if (droppedCount.incrementAndGet() % 1000 == 1) {
+            logger.warn("JDBC::add: write buffer full ({} values), discarded {} values so far, e.g. {}", capacity,
+                    droppedCount.get(), value);
+        }
+    }
+
+    /**
+     * Writes all pending values, in chunks of at most {@code batchSize} values. Writing stops at the first chunk
+     * which could not be written completely, its failed values are retried with the next flush.
+     *
+     * @return true if all pending values have been written
+     */
+    boolean flush() {
+        flushPending.set(false);
+        List<ItemValueVO> batch = new ArrayList<>(batchSize);
+        writing = true;
+        try {
+            return writeBatches(batch);
+        } finally {
+            writing = false;
+        }
+    }
+
+    private boolean writeBatches(List<ItemValueVO> batch) {
+        while (queue.drainTo(batch, batchSize) > 0) {
+            long timerStart = System.currentTimeMillis();
+            List<ItemValueVO> failed;
+            try {
+                failed = writer.apply(batch);
+            } catch (RuntimeException e) {
+                logger.warn("JDBC::flush: Unable to store {} values", batch.size(), e);
+                failed = batch;
+            }
+            long duration = System.currentTimeMillis() - timerStart;
+            lastFlushDuration = duration;
+            if (duration > maxFlushDuration) {
+                maxFlushDuration = duration;
+            }
+            batchCount.incrementAndGet();
+            writtenCount.addAndGet(batch.size() - failed.size());
+            failedCount.addAndGet(failed.size());
+            logger.debug("JDBC::flush: stored {} of {} values in {} ms, {} values pending",
+                    batch.size() - failed.size(), batch.size(), duration, queue.size());
+            if (!failed.isEmpty()) {
+                requeue(failed);
+                batch.clear();
+                // retried with the next flush, so an unavailable database is not hammered
+                return false;
+            }
+            batch.clear();
+        }
+        return true;
+    }
+
+    /**
+     * Puts values which could not be written back in front of the buffer, so they are retried in their original
+     * order. If the buffer has been filled in the meantime, {@link OverflowPolicy#DROP_NEWEST} discards the newest
+     * pending values to make room, the other policies discard the failed values, as they are the oldest ones.
+     */
+    private void requeue(List<ItemValueVO> values) {
+        for (int i = values.size() - 1; i >= 0; i--) {
+            ItemValueVO value = values.get(i);
+            while (!queue.offerFirst(value)) {
+                ItemValueVO newest = overflowPolicy == OverflowPolicy.DROP_NEWEST ? queue.pollLast() : null;
+                if (newest == null) {
+                    dropped(value);
+                    break;
+                }
+                dropped(newest);
+            }
+        }
+    }
+
+    /**
+     * Writes all values accepted so far and waits until they are stored, so they are visible to queries.
+     * Values are still written by the background writer, which keeps them in the order they were added.
+     *
+     * @param timeout maximum time in milliseconds to wait
+     * @return true if all values accepted before the call have been written, false on timeout or if values could
+     *         not be written
+     */
+    public boolean flushAndWait(long timeout) {
+        if (closed || (queue.isEmpty() && !writing)) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(scheduler.submit(this::flush).get(timeout, TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RejectedExecutionException e) {
+            logger.debug("JDBC::flushAndWait: write buffer closed concurrently");
+        } catch (TimeoutException e) {
+            logger.debug("JDBC::flushAndWait: {} values still pending after {} ms", queue.size(), timeout);
+        }
+        return false;
+    }
+
+    /**
+     * Stops the background writer after writing all pending values.
+     */
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flushJob.cancel(false);
+        scheduler.execute(this::flush);
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("JDBC::close: Timeout while writing {} pending values", queue.size());
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scheduler.shutdownNow();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("JDBC::close: {} values could not be written and are lost", queue.size());
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getQueuedCount() {
+        return queuedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getLastFlushDuration() {
+        return lastFlushDuration;
+    }
+
+    public long getMaxFlushDuration() {
+        return maxFlushDuration;
+    }
+}
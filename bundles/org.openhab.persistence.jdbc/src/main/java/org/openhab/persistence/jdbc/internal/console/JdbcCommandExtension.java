@@ -12,10 +12,14 @@
  */
 package org.openhab.persistence.jdbc.internal.console;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
@@ -28,12 +32,17 @@ import org.openhab.core.io.console.ConsoleCommandCompleter;
 import org.openhab.core.io.console.StringsCompleter;
 import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
 import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistenceService;
 import org.openhab.core.persistence.PersistenceServiceRegistry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntry;
 import org.openhab.persistence.jdbc.internal.ItemTableCheckEntryStatus;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceService;
 import org.openhab.persistence.jdbc.internal.JdbcPersistenceServiceConstants;
+import org.openhab.persistence.jdbc.internal.JdbcWriteBuffer;
+import org.openhab.persistence.jdbc.internal.db.AggregateFunction;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -51,14 +60,21 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
     private static final String CMD_SCHEMA = "schema";
     private static final String CMD_TABLES = "tables";
     private static final String CMD_RELOAD = "reload";
+    private static final String CMD_BUFFER = "buffer";
+    private static final String CMD_AGGREGATE = "aggregate";
     private static final String SUBCMD_SCHEMA_CHECK = "check";
     private static final String SUBCMD_SCHEMA_FIX = "fix";
     private static final String SUBCMD_TABLES_LIST = "list";
     private static final String SUBCMD_TABLES_CLEAN = "clean";
     private static final String PARAMETER_ALL = "all";
     private static final String PARAMETER_FORCE = "force";
+    private static final int AGGREGATE_BUCKET_COUNT = 24;
     private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
-            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD), false);
+            List.of(CMD_SCHEMA, CMD_TABLES, CMD_RELOAD, CMD_BUFFER, CMD_AGGREGATE), false);
+    private static final StringsCompleter AGGREGATE_FUNCTION_COMPLETER = new StringsCompleter(
+            Stream.of(AggregateFunction.values()).map(f -> f.name().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.toList()),
+            false);
     private static final StringsCompleter SUBCMD_SCHEMA_COMPLETER = new StringsCompleter(
             List.of(SUBCMD_SCHEMA_CHECK, SUBCMD_SCHEMA_FIX), false);
     private static final StringsCompleter SUBCMD_TABLES_COMPLETER = new StringsCompleter(
@@ -135,6 +151,11 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         } else if (args.length == 1 && CMD_RELOAD.equalsIgnoreCase(args[0])) {
             reload(persistenceService, console);
             return true;
+        } else if (args.length == 1 && CMD_BUFFER.equalsIgnoreCase(args[0])) {
+            showWriteBuffer(persistenceService, console);
+            return true;
+        } else if (args.length == 4 && CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+            return aggregate(persistenceService, console, args[1], args[2], args[3]);
         }
         return false;
     }
@@ -252,6 +273,56 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         console.println("Item index reloaded.");
     }
 
+    private void showWriteBuffer(JdbcPersistenceService persistenceService, Console console) {
+        JdbcWriteBuffer writeBuffer = persistenceService.getWriteBuffer();
+        if (writeBuffer == null) {
+            console.println("Write buffer is disabled.");
+            return;
+        }
+        console.println("Capacity:          " + writeBuffer.getCapacity());
+        console.println("Batch size:        " + writeBuffer.getBatchSize());
+        console.println("Flush interval:    " + writeBuffer.getFlushInterval() + " ms");
+        console.println("Overflow policy:   " + writeBuffer.getOverflowPolicy());
+        console.println("Queue depth:       " + writeBuffer.getQueueDepth());
+        console.println("Queued values:     " + writeBuffer.getQueuedCount());
+        console.println("Written values:    " + writeBuffer.getWrittenCount());
+        console.println("Failed writes:     " + writeBuffer.getFailedCount());
+        console.println("Dropped values:    " + writeBuffer.getDroppedCount());
+        console.println("Batches:           " + writeBuffer.getBatchCount());
+        console.println("Last flush:        " + writeBuffer.getLastFlushDuration() + " ms");
+        console.println("Max flush:         " + writeBuffer.getMaxFlushDuration() + " ms");
+    }
+
+    private boolean aggregate(JdbcPersistenceService persistenceService, Console console, String itemName,
+            String bucketMinutes, String function) {
+        Duration bucket;
+        AggregateFunction aggregateFunction;
+        try {
+            bucket = Duration.ofMinutes(Long.parseLong(bucketMinutes));
+            aggregateFunction = AggregateFunction.valueOf(function.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (bucket.isNegative() || bucket.isZero()) {
+            return false;
+        }
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(itemName);
+        filter.setOrdering(Ordering.DESCENDING);
+        filter.setPageSize(AGGREGATE_BUCKET_COUNT);
+        List<HistoricItem> values = new ArrayList<>();
+        persistenceService.queryAggregated(filter, bucket, aggregateFunction).forEach(values::add);
+        if (values.isEmpty()) {
+            console.println("No aggregated values found for item '" + itemName + "'");
+            return true;
+        }
+        Collections.reverse(values);
+        for (HistoricItem value : values) {
+            console.println(value.getTimestamp() + "  " + value.getState());
+        }
+        return true;
+    }
+
     @Override
     public List<String> getUsages() {
         return Arrays.asList(buildCommandUsage(CMD_SCHEMA + " " + SUBCMD_SCHEMA_CHECK, "check schema integrity"),
@@ -261,7 +332,10 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                 buildCommandUsage(
                         CMD_TABLES + " " + SUBCMD_TABLES_CLEAN + " [<itemName>]" + " [" + PARAMETER_FORCE + "]",
                         "clean inconsistent items (remove from index and drop tables)"),
-                buildCommandUsage(CMD_RELOAD, "reload item index/schema"));
+                buildCommandUsage(CMD_RELOAD, "reload item index/schema"),
+                buildCommandUsage(CMD_BUFFER, "show write buffer statistics"),
+                buildCommandUsage(CMD_AGGREGATE + " <itemName> <bucketMinutes> avg|min|max|last",
+                        "show the latest " + AGGREGATE_BUCKET_COUNT + " aggregated values of a numeric item"));
     }
 
     @Override
@@ -274,7 +348,13 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
         if (cursorArgumentIndex <= 0) {
             return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
         } else if (cursorArgumentIndex == 1) {
-            if (CMD_TABLES.equalsIgnoreCase(args[0])) {
+            if (CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+                JdbcPersistenceService persistenceService = getPersistenceService();
+                if (persistenceService != null) {
+                    return new StringsCompleter(persistenceService.getItemNames(), true).complete(args,
+                            cursorArgumentIndex, cursorPosition, candidates);
+                }
+            } else if (CMD_TABLES.equalsIgnoreCase(args[0])) {
                 return SUBCMD_TABLES_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
             } else if (CMD_SCHEMA.equalsIgnoreCase(args[0])) {
                 return SUBCMD_SCHEMA_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
@@ -300,6 +380,8 @@ public class JdbcCommandExtension extends AbstractConsoleCommandExtension implem
                     }
                 }
             }
+        } else if (cursorArgumentIndex == 3 && CMD_AGGREGATE.equalsIgnoreCase(args[0])) {
+            return AGGREGATE_FUNCTION_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
         }
         return false;
     }
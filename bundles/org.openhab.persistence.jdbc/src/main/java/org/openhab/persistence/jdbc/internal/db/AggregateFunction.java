@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Aggregation applied to the values of each time bucket of an aggregated query.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public enum AggregateFunction {
+    /** Average of all values in the bucket, returned with the start of the bucket. */
+    AVG,
+    /** Smallest value in the bucket, returned with the start of the bucket. */
+    MIN,
+    /** Largest value in the bucket, returned with the start of the bucket. */
+    MAX,
+    /** Most recent value in the bucket, returned with its own timestamp. */
+    LAST
+}
@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -24,6 +25,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.measure.Quantity;
@@ -58,6 +61,7 @@ import org.openhab.core.types.State;
 import org.openhab.core.types.TypeParser;
 import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
@@ -82,6 +86,9 @@ public class JdbcBaseDAO {
     // Get Database Meta data
     protected @Nullable DbMetaData dbMeta;
 
+    // Resolved SQL statements per item table, see getCachedSql()
+    private final Map<String, Map<String, String>> sqlCache = new ConcurrentHashMap<>();
+
     protected String sqlPingDB = "SELECT 1";
     protected String sqlGetDB = "SELECT DATABASE()";
     protected String sqlIfTableExists = "SHOW TABLES LIKE '#searchTable#'";
@@ -250,6 +257,45 @@ public class JdbcBaseDAO {
         return new Properties(this.databaseProps);
     }
 
+    /**
+     * Configures the driver side cache of prepared statements. Drivers supporting it reuse server side prepared
+     * statements on pooled connections, so statements are not parsed again by the database on every execution.
+     *
+     * @param size maximum number of cached statements per connection, 0 to disable caching
+     */
+    public void setPreparedStatementCacheSize(int size) {
+        logger.debug("JDBC::setPreparedStatementCacheSize: not supported by {}", this.getClass().getSimpleName());
+    }
+
+    /**
+     * Returns a resolved SQL statement for an item table, resolving it with the given provider only on first use.
+     *
+     * @param tableName the item table the statement operates on
+     * @param key identifies the statement and all variable parts of it besides the table name
+     * @param provider resolves the statement
+     * @return the SQL statement
+     */
+    protected String getCachedSql(String tableName, String key, Supplier<String> provider) {
+        return sqlCache.computeIfAbsent(tableName, t -> new ConcurrentHashMap<>()).computeIfAbsent(key,
+                k -> provider.get());
+    }
+
+    /**
+     * Removes all resolved SQL statements of an item table from the cache, e.g. after the table has been altered.
+     *
+     * @param tableName the item table
+     */
+    public void invalidateSqlCache(String tableName) {
+        sqlCache.remove(tableName);
+    }
+
+    /**
+     * Removes all resolved SQL statements from the cache, e.g. after SQL templates or types have been changed.
+     */
+    public void invalidateSqlCache() {
+        sqlCache.clear();
+    }
+
     /**************
      * ITEMS DAOs *
      **************/
@@ -432,10 +478,8 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { storedVO.getTableName(), sqlTypes.get("tablePrimaryValue") });
-        Object[] params = { storedVO.getValue(), storedVO.getValue() };
+        String sql = storeItemValueSql(storedVO, sqlTypes.get("tablePrimaryValue"));
+        Object[] params = storeItemValueParamsProvider(storedVO, null);
         logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -446,10 +490,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" }, new String[] { storedVO.getTableName(), "?" });
+        String sql = storeItemValueSql(storedVO, "?");
         java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
+        Object[] params = storeItemValueParamsProvider(storedVO, timestamp);
         logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -458,6 +501,36 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values into one item table using a single JDBC batch.
+     *
+     * @param tableName the item table all values belong to
+     * @param values the values to store, each one carrying its own timestamp
+     * @throws JdbcSQLException on SQL errors, in which case the whole batch has been rolled back
+     */
+    public void doStoreItemValues(String tableName, List<ItemValueVO> values) throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        String sql = "";
+        Object[][] params = new Object[values.size()][];
+        for (int i = 0; i < values.size(); i++) {
+            ItemValueVO value = values.get(i);
+            ItemVO storedVO = storeItemValueProvider(value.getItem(), value.getState(), new ItemVO(tableName, null));
+            if (i == 0) {
+                sql = storeItemValueSql(storedVO, "?");
+            }
+            params[i] = storeItemValueParamsProvider(storedVO,
+                    new java.sql.Timestamp(value.getDate().toInstant().toEpochMilli()));
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -480,6 +553,63 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Same as {@link #doGetHistItemFilterQuery(Item, FilterCriteria, int, String, String, ZoneId)}, but reads the
+     * rows from a forward-only cursor, {@code fetchSize} rows per round trip, and maps them while reading instead of
+     * loading all raw rows into memory first.
+     *
+     * Paging of the {@link FilterCriteria} is still applied by the database. The connection is released before the
+     * result is returned.
+     *
+     * @param fetchSize number of rows the driver should fetch per round trip
+     */
+    public List<HistoricItem> doGetHistItemFilterQueryCursor(Item item, FilterCriteria filter, int numberDecimalcount,
+            String table, String name, ZoneId timeZone, int fetchSize) throws JdbcSQLException {
+        String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
+        logger.debug("JDBC::doGetHistItemFilterQueryCursor sql={} fetchSize={}", sql, fetchSize);
+        // we already retrieve the unit here once as it is a very costly operation
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem ? ((NumberItem) item).getUnit() : null;
+        return new JdbcHistoricItemCursor(Yank.getDefaultConnectionPool(), sql, fetchSizeProvider(fetchSize),
+                cursorRequiresTransaction(), (time, value) -> new JdbcHistoricItem(itemName,
+                        objectAsState(item, unit, value), objectAsZonedDateTime(time))).read();
+    }
+
+    /**
+     * Queries one row per time bucket instead of the raw values, leaving the aggregation to the database.
+     *
+     * @param bucketSeconds length of the time buckets in seconds
+     * @param function the aggregation applied to the values of each bucket
+     * @return the aggregated values, or null if the database does not support aggregated queries
+     * @throws JdbcSQLException on SQL errors
+     */
+    public @Nullable List<HistoricItem> doGetHistItemAggregateQuery(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, ZoneId timeZone, long bucketSeconds, AggregateFunction function)
+            throws JdbcSQLException {
+        String sql = histItemAggregateQueryProvider(filter, table, timeZone, bucketSeconds, function);
+        if (sql == null) {
+            logger.debug("JDBC::doGetHistItemAggregateQuery not supported by {}", this.getClass().getSimpleName());
+            return null;
+        }
+        logger.debug("JDBC::doGetHistItemAggregateQuery sql={}", sql);
+        List<Object[]> m;
+        try {
+            m = Yank.queryObjectArrays(sql, null);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        if (m == null) {
+            logger.debug("JDBC::doGetHistItemAggregateQuery Query failed. Returning an empty list.");
+            return List.of();
+        }
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem ? ((NumberItem) item).getUnit() : null;
+        return m.stream().filter(o -> o[1] != null)
+                .map(o -> new JdbcHistoricItem(itemName, aggregateAsState(item, unit, o[1], numberDecimalcount),
+                        objectAsZonedDateTime(o[0])))
+                .collect(Collectors.<HistoricItem> toList());
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -491,8 +621,8 @@ public class JdbcBaseDAO {
     }
 
     public long doGetRowCount(String tableName) throws JdbcSQLException {
-        final String sql = StringUtilsExt.replaceArrayMerge(sqlGetRowCount, new String[] { "#tableName#" },
-                new String[] { tableName });
+        final String sql = getCachedSql(tableName, "rowCount", () -> StringUtilsExt
+                .replaceArrayMerge(sqlGetRowCount, new String[] { "#tableName#" }, new String[] { tableName }));
         logger.debug("JDBC::doGetRowCount sql={}", sql);
         try {
             final @Nullable Long result = Yank.queryScalar(sql, Long.class, null);
@@ -530,6 +660,66 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Builds a query returning one row per time bucket, ordered and paged as requested by the filter.
+     *
+     * @return the SQL statement, or null if {@link #timeBucketProvider(String, long)} is not supported
+     */
+    protected @Nullable String histItemAggregateQueryProvider(FilterCriteria filter, String table, ZoneId timeZone,
+            long bucketSeconds, AggregateFunction function) {
+        String bucket = timeBucketProvider("time", bucketSeconds);
+        if (bucket == null) {
+            return null;
+        }
+        String filterString = resolveTimeFilter(filter, timeZone);
+        String ordering = (filter.getOrdering() == Ordering.ASCENDING) ? " ASC" : " DESC";
+        String queryString;
+        if (function == AggregateFunction.LAST) {
+            // time is the primary key, so the latest time of each bucket identifies exactly one row
+            queryString = "SELECT time, value FROM " + table + " WHERE time IN (SELECT MAX(time) FROM " + table
+                    + filterString + " GROUP BY " + bucket + ") ORDER BY time" + ordering;
+        } else {
+            queryString = "SELECT " + bucket + " AS bucket, " + function.name() + "(value) FROM " + table
+                    + filterString + " GROUP BY " + bucket + " ORDER BY bucket" + ordering;
+        }
+        if (filter.getPageSize() != Integer.MAX_VALUE) {
+            queryString += " LIMIT " + filter.getPageSize() + " OFFSET "
+                    + filter.getPageNumber() * filter.getPageSize();
+        }
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Builds the SQL expression truncating a timestamp column to the start of its time bucket.
+     *
+     * @param column the timestamp column
+     * @param bucketSeconds length of the time buckets in seconds
+     * @return the SQL expression, or null if the database does not support aggregated queries
+     */
+    protected @Nullable String timeBucketProvider(String column, long bucketSeconds) {
+        return "FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(" + column + ") / " + bucketSeconds + ") * " + bucketSeconds + ")";
+    }
+
+    /**
+     * Translates the configured fetch size into the hint the driver needs to stream rows from a cursor.
+     *
+     * @param fetchSize the configured number of rows per round trip
+     * @return the value passed to {@link java.sql.Statement#setFetchSize(int)}
+     */
+    protected int fetchSizeProvider(int fetchSize) {
+        return fetchSize;
+    }
+
+    /**
+     * Some drivers only use a cursor, instead of reading the complete result, when auto-commit is disabled.
+     *
+     * @return true if cursor queries have to run inside a transaction
+     */
+    protected boolean cursorRequiresTransaction() {
+        return false;
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -561,6 +751,36 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    private String storeItemValueSql(ItemVO storedVO, @Nullable String tablePrimaryValue) {
+        return getCachedSql(storedVO.getTableName(), "insert|" + tablePrimaryValue + "|" + storedVO.getDbType(),
+                () -> storeItemValueSqlProvider(storedVO, tablePrimaryValue));
+    }
+
+    /**
+     * Builds the insert statement for a single row of an item table.
+     *
+     * @param storedVO the value as prepared by {@link #storeItemValueProvider(Item, State, ItemVO)}
+     * @param tablePrimaryValue SQL expression for the time column, "?" if the timestamp is passed as parameter
+     * @return the SQL statement
+     */
+    protected String storeItemValueSqlProvider(ItemVO storedVO, @Nullable String tablePrimaryValue) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { storedVO.getTableName(), tablePrimaryValue });
+    }
+
+    /**
+     * Builds the statement parameters matching {@link #storeItemValueSqlProvider(ItemVO, String)}.
+     *
+     * @param storedVO the value as prepared by {@link #storeItemValueProvider(Item, State, ItemVO)}
+     * @param timestamp the value of the time column, or null if the database provides it
+     * @return the statement parameters
+     */
+    protected Object[] storeItemValueParamsProvider(ItemVO storedVO, java.sql.@Nullable Timestamp timestamp) {
+        return timestamp == null ? new Object[] { storedVO.getValue(), storedVO.getValue() }
+                : new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
@@ -702,6 +922,24 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Converts an aggregated value, which may be of a different numeric type than the column, into a state.
+     */
+    protected State aggregateAsState(Item item, @Nullable Unit<? extends Quantity<?>> unit, Object v,
+            int numberDecimalcount) {
+        if (!(v instanceof Number)) {
+            return objectAsState(item, unit, v);
+        }
+        BigDecimal value = v instanceof BigDecimal ? (BigDecimal) v : new BigDecimal(v.toString());
+        if (item instanceof DimmerItem || item instanceof RollershutterItem) {
+            return new PercentType(value.setScale(0, RoundingMode.HALF_UP));
+        }
+        if (numberDecimalcount > -1) {
+            value = value.setScale(numberDecimalcount, RoundingMode.HALF_UP);
+        }
+        return unit == null ? new DecimalType(value) : QuantityType.valueOf(value.doubleValue(), unit);
+    }
+
     protected ZonedDateTime objectAsZonedDateTime(Object v) {
         if (v instanceof Long) {
             return ZonedDateTime.ofInstant(Instant.ofEpochMilli(((Number) v).longValue()), ZoneId.systemDefault());
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+
+import javax.sql.DataSource;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads a query result from a forward-only, read-only cursor.
+ *
+ * The driver fetches {@code fetchSize} rows per round trip and every row is mapped into a {@link HistoricItem}
+ * right away, so the raw rows of the complete result are never held in memory. The result is read completely
+ * before it is returned, so the connection goes back to the pool even if the caller only looks at the first items.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class JdbcHistoricItemCursor {
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcHistoricItemCursor.class);
+
+    private final DataSource dataSource;
+    private final String sql;
+    private final int fetchSize;
+    private final boolean requiresTransaction;
+    private final BiFunction<Object, Object, HistoricItem> rowMapper;
+
+    /**
+     * @param dataSource the pool to borrow the connection from
+     * @param sql the query, selecting time and value
+     * @param fetchSize the fetch size hint passed to the driver
+     * @param requiresTransaction true if the driver only uses a cursor when auto-commit is disabled
+     * @param rowMapper maps the time and value columns of a row into a {@link HistoricItem}
+     */
+    JdbcHistoricItemCursor(DataSource dataSource, String sql, int fetchSize, boolean requiresTransaction,
+            BiFunction<Object, Object, HistoricItem> rowMapper) {
+        this.dataSource = dataSource;
+        this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.requiresTransaction = requiresTransaction;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Executes the query and reads all rows. The connection is released before this method returns.
+     *
+     * @return the mapped rows
+     * @throws JdbcSQLException if the query could not be executed or its result could not be read
+     */
+    List<HistoricItem> read() throws JdbcSQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean restoreAutoCommit = requiresTransaction && connection.getAutoCommit();
+            if (restoreAutoCommit) {
+                connection.setAutoCommit(false);
+            }
+            try {
+                return read(connection);
+            } finally {
+                if (restoreAutoCommit) {
+                    // read-only transaction, nothing to commit
+                    restoreAutoCommit(connection);
+                }
+            }
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
+    private List<HistoricItem> read(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(fetchSize);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                List<HistoricItem> items = new ArrayList<>();
+                while (resultSet.next()) {
+                    items.add(rowMapper.apply(resultSet.getObject(1), resultSet.getObject(2)));
+                }
+                return items;
+            }
+        }
+    }
+
+    private void restoreAutoCommit(Connection connection) {
+        try {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        } catch (SQLException e) {
+            logger.debug("JDBC::JdbcHistoricItemCursor: Unable to end read-only transaction: {}", e.getMessage());
+        }
+    }
+}
@@ -68,6 +68,7 @@ public class JdbcMariadbDAO extends JdbcBaseDAO {
         databaseProps.setProperty("dataSource.cachePrepStmts", "true");
         databaseProps.setProperty("dataSource.prepStmtCacheSize", "250");
         databaseProps.setProperty("dataSource.prepStmtCacheSqlLimit", "2048");
+        databaseProps.setProperty("dataSource.useServerPrepStmts", "true");
         databaseProps.setProperty("dataSource.jdbcCompliantTruncation", "false");// jdbc standard max varchar max length
         // of 21845
 
@@ -80,6 +81,16 @@ public class JdbcMariadbDAO extends JdbcBaseDAO {
         databaseProps.setProperty("minimumIdle", "2");
     }
 
+    @Override
+    public void setPreparedStatementCacheSize(int size) {
+        logger.debug("JDBC::setPreparedStatementCacheSize: {}", size);
+        databaseProps.setProperty("dataSource.cachePrepStmts", Boolean.toString(size > 0));
+        databaseProps.setProperty("dataSource.useServerPrepStmts", Boolean.toString(size > 0));
+        if (size > 0) {
+            databaseProps.setProperty("dataSource.prepStmtCacheSize", Integer.toString(size));
+        }
+    }
+
     @Override
     public void initAfterFirstDbConnection() {
         logger.debug("JDBC::initAfterFirstDbConnection: Initializing step, after db is connected.");
@@ -71,6 +71,7 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
         databaseProps.setProperty("dataSource.cachePrepStmts", "true");
         databaseProps.setProperty("dataSource.prepStmtCacheSize", "250");
         databaseProps.setProperty("dataSource.prepStmtCacheSqlLimit", "2048");
+        databaseProps.setProperty("dataSource.useServerPrepStmts", "true");
         databaseProps.setProperty("dataSource.jdbcCompliantTruncation", "false");// jdbc standard max varchar max length
                                                                                  // of 21845
 
@@ -83,6 +84,22 @@ public class JdbcMysqlDAO extends JdbcBaseDAO {
         databaseProps.setProperty("minimumIdle", "2");
     }
 
+    @Override
+    public void setPreparedStatementCacheSize(int size) {
+        logger.debug("JDBC::setPreparedStatementCacheSize: {}", size);
+        databaseProps.setProperty("dataSource.cachePrepStmts", Boolean.toString(size > 0));
+        databaseProps.setProperty("dataSource.useServerPrepStmts", Boolean.toString(size > 0));
+        if (size > 0) {
+            databaseProps.setProperty("dataSource.prepStmtCacheSize", Integer.toString(size));
+        }
+    }
+
+    @Override
+    protected int fetchSizeProvider(int fetchSize) {
+        // without useCursorFetch, Connector/J only streams rows one by one instead of reading the complete result
+        return Integer.MIN_VALUE;
+    }
+
     @Override
     public void initAfterFirstDbConnection() {
         logger.debug("JDBC::initAfterFirstDbConnection: Initializing step, after db is connected.");
@@ -15,6 +15,7 @@ package org.openhab.persistence.jdbc.internal.db;
 import java.util.Properties;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.knowm.yank.Yank;
 import org.knowm.yank.exceptions.YankSQLException;
 import org.openhab.persistence.jdbc.internal.dto.ItemVO;
@@ -58,4 +59,9 @@ public class JdbcTimescaledbDAO extends JdbcPostgresqlDAO {
             throw new JdbcSQLException(e);
         }
     }
+
+    @Override
+    protected @Nullable String timeBucketProvider(String column, long bucketSeconds) {
+        return "time_bucket(interval '" + bucketSeconds + " seconds', " + column + ")";
+    }
 }
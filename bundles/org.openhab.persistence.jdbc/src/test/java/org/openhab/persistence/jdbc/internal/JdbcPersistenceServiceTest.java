@@ -12,9 +12,13 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
+import java.time.ZonedDateTime;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -48,4 +52,49 @@ public class JdbcPersistenceServiceTest {
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void timeRangeIsAggregatedIntoBuckets() {
+        ZonedDateTime end = ZonedDateTime.now();
+        filter.setBeginDate(end.minusHours(24));
+        filter.setEndDate(end);
+
+        assertThat(JdbcPersistenceService.aggregationBucketSeconds(filter, 300), is(288L));
+        assertThat(JdbcPersistenceService.aggregationBucketSeconds(filter, 7000), is(13L));
+    }
+
+    @Test
+    void queryIsNotAggregatedIfDisabled() {
+        ZonedDateTime end = ZonedDateTime.now();
+        filter.setBeginDate(end.minusHours(24));
+        filter.setEndDate(end);
+
+        assertThat(JdbcPersistenceService.aggregationBucketSeconds(filter, 0), is(0L));
+    }
+
+    @Test
+    void queryIsNotAggregatedWithoutTimeRange() {
+        filter.setBeginDate(ZonedDateTime.now().minusDays(1));
+
+        assertThat(JdbcPersistenceService.aggregationBucketSeconds(filter, 300), is(0L));
+    }
+
+    @Test
+    void pagedQueryIsNotAggregated() {
+        ZonedDateTime end = ZonedDateTime.now();
+        filter.setBeginDate(end.minusHours(24));
+        filter.setEndDate(end);
+        filter.setPageSize(10);
+
+        assertThat(JdbcPersistenceService.aggregationBucketSeconds(filter, 300), is(0L));
+    }
+
+    @Test
+    void shortTimeRangeIsNotAggregated() {
+        ZonedDateTime end = ZonedDateTime.now();
+        filter.setBeginDate(end.minusMinutes(5));
+        filter.setEndDate(end);
+
+        assertThat(JdbcPersistenceService.aggregationBucketSeconds(filter, 300), is(0L));
+    }
 }
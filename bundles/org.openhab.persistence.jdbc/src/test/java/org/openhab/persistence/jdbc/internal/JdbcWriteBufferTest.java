@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.persistence.jdbc.internal.dto.ItemValueVO;
+
+/**
+ * Tests the {@link JdbcWriteBuffer}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteBufferTest {
+
+    private final NumberItem item = new NumberItem("Test");
+    private final List<List<Integer>> batches = new ArrayList<>();
+    private final CountDownLatch writerEntered = new CountDownLatch(1);
+    private final CountDownLatch writerReleased = new CountDownLatch(1);
+    private int failingWrites = 0;
+
+    private ItemValueVO value(int value) {
+        return new ItemValueVO(item, new DecimalType(value), ZonedDateTime.now());
+    }
+
+    private synchronized List<ItemValueVO> write(List<ItemValueVO> values) {
+        batches.add(values.stream().map(v -> ((DecimalType) v.getState()).intValue()).collect(Collectors.toList()));
+        if (failingWrites > 0) {
+            failingWrites--;
+            return List.copyOf(values);
+        }
+        return List.of();
+    }
+
+    @Test
+    void valuesAreWrittenInBatchesOnClose() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(100, 3, 60000, JdbcWriteBuffer.OverflowPolicy.BLOCK,
+                this::write);
+        for (int i = 0; i < 2; i++) {
+            buffer.add(value(i));
+        }
+        buffer.close();
+
+        assertThat(batches, is(List.of(List.of(0, 1))));
+        assertThat(buffer.getWrittenCount(), is(2L));
+        assertThat(buffer.getQueueDepth(), is(0));
+    }
+
+    @Test
+    void flushAndWaitWritesPendingValuesBeforeReturning() {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(100, 3, 60000, JdbcWriteBuffer.OverflowPolicy.BLOCK,
+                this::write);
+        for (int i = 0; i < 2; i++) {
+            buffer.add(value(i));
+        }
+
+        assertThat(buffer.flushAndWait(5000), is(true));
+        assertThat(batches, is(List.of(List.of(0, 1))));
+        assertThat(buffer.getQueueDepth(), is(0));
+        buffer.close();
+    }
+
+    @Test
+    void fullBatchIsWrittenWithoutWaitingForInterval() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(100, 3, 60000, JdbcWriteBuffer.OverflowPolicy.BLOCK,
+                values -> {
+                    List<ItemValueVO> failed = write(values);
+                    latch.countDown();
+                    return failed;
+                });
+        for (int i = 0; i < 3; i++) {
+            buffer.add(value(i));
+        }
+
+        assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+        buffer.close();
+        assertThat(batches.get(0), is(List.of(0, 1, 2)));
+    }
+
+    @Test
+    void dropNewestDiscardsValuesWhenFull() throws InterruptedException {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(2, 2, 60000, JdbcWriteBuffer.OverflowPolicy.DROP_NEWEST,
+                this::blockingWrite);
+        fillWhileWriterIsBlocked(buffer);
+        assertThat(buffer.add(value(4)), is(false));
+        assertThat(buffer.getDroppedCount(), is(1L));
+        writerReleased.countDown();
+        buffer.close();
+
+        assertThat(batches, is(List.of(List.of(0, 1), List.of(2, 3))));
+    }
+
+    @Test
+    void dropOldestKeepsLatestValuesWhenFull() throws InterruptedException {
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(2, 2, 60000, JdbcWriteBuffer.OverflowPolicy.DROP_OLDEST,
+                this::blockingWrite);
+        fillWhileWriterIsBlocked(buffer);
+        assertThat(buffer.add(value(4)), is(true));
+        assertThat(buffer.add(value(5)), is(true));
+        assertThat(buffer.getDroppedCount(), is(2L));
+        writerReleased.countDown();
+        buffer.close();
+
+        assertThat(batches, is(List.of(List.of(0, 1), List.of(4, 5))));
+    }
+
+    @Test
+    void failedValuesAreRetriedWithNextFlush() {
+        failingWrites = 1;
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(100, 3, 60000, JdbcWriteBuffer.OverflowPolicy.BLOCK,
+                this::write);
+        buffer.add(value(0));
+        buffer.add(value(1));
+
+        assertThat(buffer.flushAndWait(5000), is(false));
+        assertThat(buffer.getQueueDepth(), is(2));
+        assertThat(buffer.getFailedCount(), is(2L));
+
+        buffer.add(value(2));
+        assertThat(buffer.flushAndWait(5000), is(true));
+        buffer.close();
+
+        assertThat(batches, is(List.of(List.of(0, 1), List.of(0, 1, 2))));
+        assertThat(buffer.getWrittenCount(), is(3L));
+        assertThat(buffer.getDroppedCount(), is(0L));
+    }
+
+    @Test
+    void failedValuesAreDiscardedWhenBufferFilledUp() throws InterruptedException {
+        failingWrites = 1;
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(2, 2, 60000, JdbcWriteBuffer.OverflowPolicy.DROP_OLDEST,
+                this::blockingWrite);
+        fillWhileWriterIsBlocked(buffer);
+        writerReleased.countDown();
+        buffer.close();
+
+        // the failed values 0 and 1 are the oldest ones
+        assertThat(batches, is(List.of(List.of(0, 1), List.of(2, 3))));
+        assertThat(buffer.getDroppedCount(), is(2L));
+    }
+
+    @Test
+    void newestValuesAreDiscardedForFailedValuesWithDropNewest() throws InterruptedException {
+        failingWrites = 1;
+        JdbcWriteBuffer buffer = new JdbcWriteBuffer(2, 2, 60000, JdbcWriteBuffer.OverflowPolicy.DROP_NEWEST,
+                this::blockingWrite);
+        fillWhileWriterIsBlocked(buffer);
+        writerReleased.countDown();
+        buffer.close();
+
+        assertThat(batches, is(List.of(List.of(0, 1), List.of(0, 1))));
+        assertThat(buffer.getDroppedCount(), is(2L));
+    }
+
+    private List<ItemValueVO> blockingWrite(List<ItemValueVO> values) {
+        writerEntered.countDown();
+        try {
+            writerReleased.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return write(values);
+    }
+
+    /**
+     * Adds values 0 and 1, which are taken by the (blocked) writer, then 2 and 3 which fill the buffer.
+     */
+    private void fillWhileWriterIsBlocked(JdbcWriteBuffer buffer) throws InterruptedException {
+        buffer.add(value(0));
+        buffer.add(value(1));
+        assertThat(writerEntered.await(5, TimeUnit.SECONDS), is(true));
+        buffer.add(value(2));
+        buffer.add(value(3));
+        assertThat(buffer.getQueueDepth(), is(2));
+    }
+
+    @Test
+    void overflowPolicyIsParsedFromConfig() {
+        assertThat(JdbcWriteBuffer.OverflowPolicy.fromConfig("dropNewest"),
+                is(JdbcWriteBuffer.OverflowPolicy.DROP_NEWEST));
+        assertThat(JdbcWriteBuffer.OverflowPolicy.fromConfig("DROP_OLDEST"),
+                is(JdbcWriteBuffer.OverflowPolicy.DROP_OLDEST));
+        assertThat(JdbcWriteBuffer.OverflowPolicy.fromConfig("unknown"), is(JdbcWriteBuffer.OverflowPolicy.BLOCK));
+        assertThat(JdbcWriteBuffer.OverflowPolicy.fromConfig(null), is(JdbcWriteBuffer.OverflowPolicy.BLOCK));
+    }
+}
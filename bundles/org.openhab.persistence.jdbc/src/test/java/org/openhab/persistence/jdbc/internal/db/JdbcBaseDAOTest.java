@@ -17,11 +17,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
+import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -218,6 +221,37 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    public void testHistItemAggregateQueryProviderReturnsGroupedSelectQuery() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+        filter.setPageSize(100);
+
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID, 300,
+                AggregateFunction.AVG);
+        String bucket = "FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 300) * 300)";
+        assertThat(sql, is("SELECT " + bucket + " AS bucket, AVG(value) FROM " + DB_TABLE_NAME + " WHERE TIME>='"
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(filter.getBeginDate()) + "' GROUP BY " + bucket
+                + " ORDER BY bucket ASC LIMIT 100 OFFSET 0"));
+    }
+
+    @Test
+    public void testHistItemAggregateQueryProviderReturnsLatestRowPerBucketForLast() {
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID, 60,
+                AggregateFunction.LAST);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE time IN (SELECT MAX(time) FROM "
+                + DB_TABLE_NAME + " GROUP BY FROM_UNIXTIME(FLOOR(UNIX_TIMESTAMP(time) / 60) * 60))"
+                + " ORDER BY time DESC"));
+    }
+
+    @Test
+    public void testAggregateAsStateConvertsAverageOfIntegerColumns() {
+        assertThat(jdbcBaseDAO.aggregateAsState(new DimmerItem("Test"), null, new BigDecimal("42.5"), 3),
+                is(new PercentType(43)));
+        assertThat(jdbcBaseDAO.aggregateAsState(new NumberItem("Test"), null, 1.23456, 3),
+                is(new DecimalType(new BigDecimal("1.235"))));
+    }
+
     @Test
     public void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
@@ -267,6 +301,24 @@ public class JdbcBaseDAOTest {
                 + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(filter.getEndDate()) + "'"));
     }
 
+    @Test
+    public void testGetCachedSqlResolvesOnlyOnceUntilInvalidated() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        Supplier<String> provider = () -> "SELECT " + resolveCount.incrementAndGet() + " FROM " + DB_TABLE_NAME;
+
+        assertThat(jdbcBaseDAO.getCachedSql(DB_TABLE_NAME, "test", provider), is("SELECT 1 FROM " + DB_TABLE_NAME));
+        assertThat(jdbcBaseDAO.getCachedSql(DB_TABLE_NAME, "test", provider), is("SELECT 1 FROM " + DB_TABLE_NAME));
+
+        jdbcBaseDAO.invalidateSqlCache("otheritem");
+        assertThat(jdbcBaseDAO.getCachedSql(DB_TABLE_NAME, "test", provider), is("SELECT 1 FROM " + DB_TABLE_NAME));
+
+        jdbcBaseDAO.invalidateSqlCache(DB_TABLE_NAME);
+        assertThat(jdbcBaseDAO.getCachedSql(DB_TABLE_NAME, "test", provider), is("SELECT 2 FROM " + DB_TABLE_NAME));
+
+        jdbcBaseDAO.invalidateSqlCache();
+        assertThat(jdbcBaseDAO.getCachedSql(DB_TABLE_NAME, "test", provider), is("SELECT 3 FROM " + DB_TABLE_NAME));
+    }
+
     private ZonedDateTime parseDateTimeString(String dts) {
         return ZonedDateTime.of(LocalDateTime.parse(dts, DATE_PARSER), UTC_ZONE_ID);
     }
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link JdbcH2DAO} against an in-memory H2 database.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcH2DAOTest {
+
+    private final JdbcH2DAO jdbcH2DAO = new JdbcH2DAO();
+
+    @Test
+    public void testTimeBucketProviderRoundsDownToBucketBoundary() throws SQLException {
+        assertThat(bucketOf("2023-03-26 10:04:59", 300), is(Timestamp.valueOf("2023-03-26 10:00:00")));
+        assertThat(bucketOf("2023-03-26 10:05:00", 300), is(Timestamp.valueOf("2023-03-26 10:05:00")));
+        assertThat(bucketOf("2023-03-26 23:59:59", 86400), is(Timestamp.valueOf("2023-03-26 00:00:00")));
+    }
+
+    private @Nullable Timestamp bucketOf(String time, long bucketSeconds) throws SQLException {
+        String bucket = jdbcH2DAO.timeBucketProvider("t", bucketSeconds);
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:");
+                Statement statement = connection.createStatement();
+                ResultSet result = statement
+                        .executeQuery("SELECT " + bucket + " FROM (SELECT TIMESTAMP '" + time + "' AS t)")) {
+            result.next();
+            return result.getTimestamp(1);
+        }
+    }
+}
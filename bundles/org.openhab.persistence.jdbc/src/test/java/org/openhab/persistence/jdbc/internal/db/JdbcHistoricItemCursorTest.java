@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.persistence.jdbc.internal.dto.JdbcHistoricItem;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+
+/**
+ * Tests the {@link JdbcHistoricItemCursor}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class JdbcHistoricItemCursorTest {
+
+    private static final String SQL = "SELECT time, value FROM item0001";
+
+    private @Mock @NonNullByDefault({}) DataSource dataSourceMock;
+    private @Mock @NonNullByDefault({}) Connection connectionMock;
+    private @Mock @NonNullByDefault({}) PreparedStatement statementMock;
+    private @Mock @NonNullByDefault({}) ResultSet resultSetMock;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        when(dataSourceMock.getConnection()).thenReturn(connectionMock);
+        when(connectionMock.getAutoCommit()).thenReturn(true);
+        when(connectionMock.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statementMock);
+        when(statementMock.executeQuery()).thenReturn(resultSetMock);
+        when(resultSetMock.next()).thenReturn(true, true, false);
+        when(resultSetMock.getObject(1)).thenReturn(ZonedDateTime.now());
+        when(resultSetMock.getObject(2)).thenReturn(1, 2);
+    }
+
+    private JdbcHistoricItemCursor cursor(boolean requiresTransaction) {
+        return new JdbcHistoricItemCursor(dataSourceMock, SQL, 100, requiresTransaction,
+                (time, value) -> new JdbcHistoricItem("Test", new DecimalType((Integer) value), (ZonedDateTime) time));
+    }
+
+    @Test
+    public void resultIsReadFromForwardOnlyCursor() throws Exception {
+        List<HistoricItem> items = cursor(false).read();
+
+        verify(connectionMock).prepareStatement(SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        verify(statementMock).setFetchSize(100);
+        assertThat(items.size(), is(2));
+        assertThat(items.get(0).getState(), is(new DecimalType(1)));
+        assertThat(items.get(1).getState(), is(new DecimalType(2)));
+    }
+
+    @Test
+    public void connectionIsReleasedBeforeResultIsReturned() throws Exception {
+        cursor(false).read();
+
+        verify(resultSetMock).close();
+        verify(statementMock).close();
+        verify(connectionMock).close();
+    }
+
+    @Test
+    public void autoCommitIsRestoredWhenTransactionIsRequired() throws Exception {
+        cursor(true).read();
+
+        verify(connectionMock).setAutoCommit(false);
+        verify(connectionMock).rollback();
+        verify(connectionMock).setAutoCommit(true);
+        verify(connectionMock).close();
+    }
+
+    @Test
+    public void queryErrorIsPropagated() throws SQLException {
+        when(statementMock.executeQuery()).thenThrow(new SQLException("table not found"));
+
+        JdbcSQLException exception = assertThrows(JdbcSQLException.class, () -> cursor(false).read());
+        assertThat(exception.getMessage(), is("table not found"));
+        verify(connectionMock).close();
+    }
+
+    @Test
+    public void readErrorIsPropagated() throws SQLException {
+        when(resultSetMock.next()).thenReturn(true).thenThrow(new SQLException("connection lost"));
+
+        assertThrows(JdbcSQLException.class, () -> cursor(false).read());
+        verify(resultSetMock).close();
+        verify(connectionMock).close();
+    }
+}
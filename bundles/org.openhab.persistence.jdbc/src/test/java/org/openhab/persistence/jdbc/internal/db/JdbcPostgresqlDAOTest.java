@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal.db;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the {@link JdbcPostgresqlDAO}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcPostgresqlDAOTest {
+
+    private final JdbcPostgresqlDAO jdbcPostgresqlDAO = new JdbcPostgresqlDAO();
+
+    @Test
+    public void testTimeBucketProviderReturnsTimestampWithoutTimeZone() {
+        // the time column has no time zone, so the bucket must not be shifted by the server's time zone offset
+        assertThat(jdbcPostgresqlDAO.timeBucketProvider("time", 3600),
+                is("(to_timestamp(floor(extract(epoch from time) / 3600) * 3600) AT TIME ZONE 'UTC')"));
+    }
+}
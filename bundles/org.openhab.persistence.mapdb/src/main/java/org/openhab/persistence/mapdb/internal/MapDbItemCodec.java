@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compact binary encoding of {@link MapDbItem}s.
+ *
+ * An encoded item consists of a format version, the item name, the timestamp in milliseconds and the state. The most
+ * common state types are stored with a one byte tag and parsed directly, all other types are stored with their class
+ * name and parsed with the {@link TypeParser}, like the {@link StateTypeAdapter} does.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodec {
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_OTHER = 0;
+    private static final byte TYPE_DECIMAL = 1;
+    private static final byte TYPE_QUANTITY = 2;
+    private static final byte TYPE_ON_OFF = 3;
+    private static final byte TYPE_OPEN_CLOSED = 4;
+    private static final byte TYPE_PERCENT = 5;
+    private static final byte TYPE_HSB = 6;
+    private static final byte TYPE_STRING = 7;
+    private static final byte TYPE_DATE_TIME = 8;
+
+    private final Logger logger = LoggerFactory.getLogger(MapDbItemCodec.class);
+
+    public byte[] encode(MapDbItem item) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeUTF(item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            State state = item.getState();
+            byte type = typeOf(state);
+            out.writeByte(type);
+            if (type == TYPE_OTHER) {
+                out.writeUTF(state.getClass().getName());
+            }
+            writeString(out, state.toFullString());
+        } catch (IOException e) {
+            // cannot happen when writing to a byte array
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public @Nullable MapDbItem decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                logger.warn("Couldn't decode item: unsupported format version {}", version);
+                return null;
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(in.readUTF());
+            item.setTimestamp(new Date(in.readLong()));
+            byte type = in.readByte();
+            String typeName = type == TYPE_OTHER ? in.readUTF() : "";
+            String value = readString(in);
+            State state = parseState(type, typeName, value);
+            if (state == null) {
+                logger.warn("Couldn't decode state '{}' of item '{}'", value, item.getName());
+                return null;
+            }
+            item.setState(state);
+            return item;
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Couldn't decode item: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static byte typeOf(State state) {
+        // exact classes only, subclasses are restored as they are
+        Class<?> stateClass = state.getClass();
+        if (stateClass == DecimalType.class) {
+            return TYPE_DECIMAL;
+        } else if (stateClass == QuantityType.class) {
+            return TYPE_QUANTITY;
+        } else if (stateClass == OnOffType.class) {
+            return TYPE_ON_OFF;
+        } else if (stateClass == OpenClosedType.class) {
+            return TYPE_OPEN_CLOSED;
+        } else if (stateClass == PercentType.class) {
+            return TYPE_PERCENT;
+        } else if (stateClass == HSBType.class) {
+            return TYPE_HSB;
+        } else if (stateClass == StringType.class) {
+            return TYPE_STRING;
+        } else if (stateClass == DateTimeType.class) {
+            return TYPE_DATE_TIME;
+        }
+        return TYPE_OTHER;
+    }
+
+    private @Nullable State parseState(byte type, String typeName, String value) {
+        switch (type) {
+            case TYPE_DECIMAL:
+                return new DecimalType(new BigDecimal(value));
+            case TYPE_QUANTITY:
+                return new QuantityType<>(value);
+            case TYPE_ON_OFF:
+                return OnOffType.valueOf(value);
+            case TYPE_OPEN_CLOSED:
+                return OpenClosedType.valueOf(value);
+            case TYPE_PERCENT:
+                return new PercentType(new BigDecimal(value));
+            case TYPE_HSB:
+                return new HSBType(value);
+            case TYPE_STRING:
+                return new StringType(value);
+            case TYPE_DATE_TIME:
+                return new DateTimeType(value);
+            case TYPE_OTHER:
+                try {
+                    @SuppressWarnings("unchecked")
+                    Class<? extends State> stateClass = (Class<? extends State>) Class.forName(typeName);
+                    return TypeParser.parseState(List.of(stateClass), value);
+                } catch (ClassNotFoundException e) {
+                    logger.warn("Couldn't decode state '{}': unknown type '{}'", value, typeName);
+                    return null;
+                }
+            default:
+                logger.warn("Couldn't decode state '{}': unknown type tag {}", value, type);
+                return null;
+        }
+    }
+
+    /**
+     * Writes a string of any length, {@link DataOutputStream#writeUTF(String)} is limited to 64 KB, which may not be
+     * enough for e.g. images.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
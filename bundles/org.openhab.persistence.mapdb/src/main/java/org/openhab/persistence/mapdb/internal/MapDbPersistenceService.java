@@ -18,15 +18,23 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -68,16 +76,35 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
+    private static final String JSON_STORE_NAME = "itemStore";
+    private static final String STORE_NAME = "itemStoreBinary";
+
+    /** maximum time in milliseconds changes are kept before they are committed */
+    private static final long COMMIT_INTERVAL = 1000;
+    /** number of changes which are committed without waiting for {@link #COMMIT_INTERVAL} */
+    private static final int COMMIT_CHANGES = 100;
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
     private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(getClass().getSimpleName());
+
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+    private @Nullable ScheduledFuture<?> commitJob;
 
     /** holds the local instance of the MapDB database */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+
+    private final MapDbItemCodec codec = new MapDbItemCodec();
 
+    /** decoded items, loaded from {@link #map} on first access and updated on every store */
+    private volatile @Nullable Map<String, MapDbItem> items;
+    private final Set<PersistenceItemInfo> itemInfo = ConcurrentHashMap.newKeySet();
+    private final Object itemsLock = new Object();
+
+    /** only used to migrate items stored in the JSON format used before */
     private transient Gson mapper = new GsonBuilder().registerTypeHierarchyAdapter(State.class, new StateTypeAdapter())
             .create();
 
@@ -96,7 +123,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
             db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            map = db.createTreeMap(STORE_NAME).makeOrGet();
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException) {
@@ -129,20 +156,32 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                 }
 
                 db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                map = db.createTreeMap(STORE_NAME).makeOrGet();
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
             }
         }
+        if (map != null) {
+            migrateJsonStore();
+        }
         logger.debug("MapDB persistence service is now activated");
     }
 
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
+        ScheduledFuture<?> commitJob = this.commitJob;
+        if (commitJob != null) {
+            commitJob.cancel(false);
+            this.commitJob = null;
+        }
         if (db != null) {
-            db.close();
+            closeDb();
+        }
+        synchronized (itemsLock) {
+            items = null;
+            itemInfo.clear();
         }
     }
 
@@ -158,8 +197,8 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        getItems();
+        return Collections.unmodifiableSet(itemInfo);
     }
 
     @Override
@@ -182,26 +221,70 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setName(localAlias);
         mItem.setState(state);
         mItem.setTimestamp(new Date());
-        String json = serialize(mItem);
-        map.put(localAlias, json);
-        commit();
-        if (logger.isDebugEnabled()) {
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+        map.put(localAlias, codec.encode(mItem));
+        scheduleCommit();
+        synchronized (itemsLock) {
+            Map<String, MapDbItem> items = this.items;
+            if (items != null) {
+                MapDbItem previous = items.put(localAlias, mItem);
+                if (previous != null) {
+                    itemInfo.remove(previous);
+                }
+                itemInfo.add(mItem);
+            }
         }
+        logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
-            return List.of();
+        MapDbItem item = getItems().get(filter.getItemName());
+        return item == null ? List.of() : List.of(item);
+    }
+
+    /**
+     * Returns the decoded items. On first access, the tree map is read once and its entries are decoded in parallel.
+     */
+    private Map<String, MapDbItem> getItems() {
+        Map<String, MapDbItem> items = this.items;
+        if (items == null) {
+            synchronized (itemsLock) {
+                items = this.items;
+                if (items == null) {
+                    long start = System.currentTimeMillis();
+                    List<Entry<String, byte[]>> entries = new ArrayList<>(map.entrySet());
+                    items = entries.parallelStream().map(entry -> codec.decode(entry.getValue()))
+                            .filter(Objects::nonNull).map(Objects::requireNonNull)
+                            .collect(Collectors.toConcurrentMap(MapDbItem::getName, item -> item, (a, b) -> b));
+                    itemInfo.addAll(items.values());
+                    this.items = items;
+                    logger.debug("Loaded {} items from MapDB database in {} ms", items.size(),
+                            System.currentTimeMillis() - start);
+                }
+            }
         }
-        Optional<MapDbItem> item = deserialize(json);
-        return item.isPresent() ? List.of(item.get()) : List.of();
+        return items;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    /**
+     * Converts the items stored as JSON by previous versions into the binary format and removes the JSON store.
+     */
+    private void migrateJsonStore() {
+        if (!db.exists(JSON_STORE_NAME)) {
+            return;
+        }
+        Map<String, String> jsonMap = db.getTreeMap(JSON_STORE_NAME);
+        int migrated = 0;
+        for (Entry<String, String> entry : jsonMap.entrySet()) {
+            Optional<MapDbItem> item = deserialize(entry.getValue());
+            if (item.isPresent() && map.putIfAbsent(entry.getKey(), codec.encode(item.get())) == null) {
+                migrated++;
+            }
+        }
+        int total = jsonMap.size();
+        db.delete(JSON_STORE_NAME);
+        db.commit();
+        logger.info("Migrated {} of {} items stored in MapDB to the binary format", migrated, total);
     }
 
     @SuppressWarnings("null")
@@ -217,12 +300,30 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
-    private void commit() {
-        threadPool.submit(() -> db.commit());
+    /**
+     * Commits after {@link #COMMIT_INTERVAL} milliseconds, or right away once {@link #COMMIT_CHANGES} changes are
+     * pending, so that bursts of updates share one commit.
+     */
+    private void scheduleCommit() {
+        int changes = pendingChanges.incrementAndGet();
+        if (changes == 1) {
+            commitJob = scheduler.schedule(this::commit, COMMIT_INTERVAL, TimeUnit.MILLISECONDS);
+        } else if (changes == COMMIT_CHANGES) {
+            threadPool.submit(this::commit);
+        }
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
+    private synchronized void closeDb() {
+        commit();
+        db.close();
+    }
+
+    private synchronized void commit() {
+        int changes = pendingChanges.getAndSet(0);
+        if (changes > 0 && !db.isClosed()) {
+            db.commit();
+            logger.trace("Committed {} changes to MapDB database", changes);
+        }
     }
 
     @Override
@@ -26,12 +26,16 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 
 import javax.measure.Quantity;
 import javax.measure.Unit;
@@ -69,12 +73,15 @@ import org.openhab.core.types.State;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
+import org.rrd4j.core.Archive;
 import org.rrd4j.core.FetchData;
 import org.rrd4j.core.FetchRequest;
+import org.rrd4j.core.RrdBackendFactory;
 import org.rrd4j.core.RrdDb;
 import org.rrd4j.core.RrdDb.Builder;
 import org.rrd4j.core.RrdDbPool;
@@ -93,8 +100,8 @@ import org.slf4j.LoggerFactory;
  * @author Karel Goderis - remove TimerThread dependency
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class,
-        QueryablePersistenceService.class }, configurationPid = "org.openhab.rrd4j", configurationPolicy = ConfigurationPolicy.OPTIONAL)
+@Component(service = { PersistenceService.class, QueryablePersistenceService.class,
+        RRD4jPersistenceService.class }, configurationPid = "org.openhab.rrd4j", configurationPolicy = ConfigurationPolicy.OPTIONAL)
 public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final String DEFAULT_OTHER = "default_other";
@@ -114,13 +121,28 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private static final Path DB_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "rrd4j").toAbsolutePath();
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
+    private static final int DEFAULT_POOL_CAPACITY = DATABASE_POOL.getCapacity();
+
+    private static volatile RrdBackendFactory backendFactory = RrdBackendFactory.getDefaultFactory();
+
+    private static final String CONFIG_BACKEND = "backend";
+    private static final String CONFIG_POOL_CAPACITY = "poolCapacity";
+    private static final String CONFIG_WARMUP = "warmup";
 
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
 
-    private final Map<String, ScheduledFuture<?>> scheduledJobs = new HashMap<>();
+    /** number of independently locked sample buffers */
+    private static final int WRITER_SHARDS = 8;
+    /** interval in seconds for writing buffered samples, the smallest step of the default configurations */
+    private static final long FLUSH_INTERVAL = 5;
+
+    private final WriterShard[] shards = new WriterShard[WRITER_SHARDS];
+    private final List<ScheduledFuture<?>> flushJobs = new ArrayList<>();
 
     private final ItemRegistry itemRegistry;
 
+    private boolean warmup = false;
+
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
     }
@@ -129,9 +151,16 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return DATABASE_POOL;
     }
 
+    public static RrdBackendFactory getBackendFactory() {
+        return backendFactory;
+    }
+
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new WriterShard();
+        }
     }
 
     @Override
@@ -145,13 +174,49 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     }
 
     @Override
-    public synchronized void store(final Item item, @Nullable final String alias) {
+    public void store(final Item item, @Nullable final String alias) {
         if (!isSupportedItemType(item)) {
             logger.trace("Ignoring item '{}' since its type {} is not supported", item.getName(), item.getType());
             return;
         }
         final String name = alias == null ? item.getName() : alias;
 
+        Double value = null;
+        if (item instanceof NumberItem && item.getState() instanceof QuantityType) {
+            NumberItem nItem = (NumberItem) item;
+            QuantityType<?> qState = (QuantityType<?>) item.getState();
+            Unit<? extends Quantity<?>> unit = nItem.getUnit();
+            if (unit != null) {
+                QuantityType<?> convertedState = qState.toUnit(unit);
+                if (convertedState != null) {
+                    value = convertedState.doubleValue();
+                } else {
+                    logger.warn(
+                            "Failed to convert state '{}' to unit '{}'. Please check your item definition for correctness.",
+                            qState, unit);
+                }
+            } else {
+                value = qState.doubleValue();
+            }
+        } else {
+            DecimalType state = item.getStateAs(DecimalType.class);
+            if (state != null) {
+                value = state.toBigDecimal().doubleValue();
+            }
+        }
+        if (value != null) {
+            getShard(name).add(name, System.currentTimeMillis() / 1000, value);
+            logger.trace("Buffered '{}' as value '{}' for rrd4j database", name, value);
+        }
+    }
+
+    /**
+     * Writes the buffered samples of one database, opening it only once for all of them.
+     *
+     * @param name the database name
+     * @param samples the values to store by their time in seconds
+     */
+    private void writeSamples(String name, SortedMap<Long, Double> samples) {
         RrdDb db = null;
         try {
             db = getDB(name);
@@ -162,79 +227,38 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return;
         }
 
-        ConsolFun function = getConsolidationFunction(db);
-        long now = System.currentTimeMillis() / 1000;
-        if (function != ConsolFun.AVERAGE) {
-            try {
-                // we store the last value again, so that the value change
-                // in the database is not interpolated, but
-                // happens right at this spot
-                if (now - 1 > db.getLastUpdateTime()) {
-                    // only do it if there is not already a value
-                    double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
-                    if (!Double.isNaN(lastValue)) {
-                        Sample sample = db.createSample();
-                        sample.setTime(now - 1);
-                        sample.setValue(DATASOURCE_STATE, lastValue);
-                        sample.update();
-                        logger.debug("Stored '{}' as value '{}' in rrd4j database (again)", name, lastValue);
-                    }
-                }
-            } catch (IOException e) {
-                logger.debug("Error storing last value (again): {}", e.getMessage());
-            }
-        }
         try {
-            Sample sample = db.createSample();
-            sample.setTime(now);
-
-            Double value = null;
-
-            if (item instanceof NumberItem && item.getState() instanceof QuantityType) {
-                NumberItem nItem = (NumberItem) item;
-                QuantityType<?> qState = (QuantityType<?>) item.getState();
-                Unit<? extends Quantity<?>> unit = nItem.getUnit();
-                if (unit != null) {
-                    QuantityType<?> convertedState = qState.toUnit(unit);
-                    if (convertedState != null) {
-                        value = convertedState.doubleValue();
-                    } else {
-                        logger.warn(
-                                "Failed to convert state '{}' to unit '{}'. Please check your item definition for correctness.",
-                                qState, unit);
+            ConsolFun function = getConsolidationFunction(db);
+            // counter values must be adjusted by stepsize
+            double factor = db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER ? db.getRrdDef().getStep()
+                    : 1;
+            for (Map.Entry<Long, Double> entry : samples.entrySet()) {
+                // rrd4j requires at least one second between samples, so a value stored within the same second as
+                // the last update is stored one second later
+                long time = Math.max(entry.getKey(), db.getLastUpdateTime() + 1);
+                if (function != ConsolFun.AVERAGE) {
+                    // we store the last value again, so that the value change
+                    // in the database is not interpolated, but
+                    // happens right at this spot
+                    if (time - 1 > db.getLastUpdateTime()) {
+                        // only do it if there is not already a value
+                        double lastValue = db.getLastDatasourceValue(DATASOURCE_STATE);
+                        if (!Double.isNaN(lastValue)) {
+                            Sample sample = db.createSample();
+                            sample.setTime(time - 1);
+                            sample.setValue(DATASOURCE_STATE, lastValue);
+                            sample.update();
+                            logger.debug("Stored '{}' as value '{}' in rrd4j database (again)", name, lastValue);
+                        }
                     }
-                } else {
-                    value = qState.doubleValue();
-                }
-            } else {
-                DecimalType state = item.getStateAs(DecimalType.class);
-                if (state != null) {
-                    value = state.toBigDecimal().doubleValue();
-                }
-            }
-            if (value != null) {
-                if (db.getDatasource(DATASOURCE_STATE).getType() == DsType.COUNTER) { // counter values must be
-                                                                                      // adjusted by stepsize
-                    value = value * db.getRrdDef().getStep();
                 }
+                double value = entry.getValue() * factor;
+                Sample sample = db.createSample();
+                sample.setTime(time);
                 sample.setValue(DATASOURCE_STATE, value);
                 sample.update();
                 logger.debug("Stored '{}' as value '{}' in rrd4j database", name, value);
             }
-        } catch (IllegalArgumentException e) {
-            String message = e.getMessage();
-            if (message != null && message.contains("at least one second step is required")) {
-                // we try to store the value one second later
-                ScheduledFuture<?> job = scheduledJobs.get(name);
-                if (job != null) {
-                    job.cancel(true);
-                    scheduledJobs.remove(name);
-                }
-                job = scheduler.schedule(() -> store(item, name), 1, TimeUnit.SECONDS);
-                scheduledJobs.put(name, job);
-            } else {
-                logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
-            }
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
@@ -245,6 +269,20 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Writes the buffered samples of an item, so they are included when its database is read directly, e.g. by the
+     * chart servlet.
+     *
+     * @param itemName the name of the item
+     */
+    public void flush(String itemName) {
+        getShard(itemName).flush(itemName);
+    }
+
+    private WriterShard getShard(String name) {
+        return shards[Math.floorMod(name.hashCode(), shards.length)];
+    }
+
     @Override
     public void store(Item item) {
         store(item, null);
@@ -261,11 +299,17 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         String itemName = filter.getItemName();
 
         RrdDb db = null;
+        WriterShard shard = getShard(itemName);
+        shard.writeLock.lock();
         try {
+            // make buffered samples visible to the query
+            shard.flush(itemName);
             db = getDB(itemName);
         } catch (Exception e) {
             logger.warn("Failed to open rrd4j database '{}' for querying ({})", itemName, e.toString());
             return List.of();
+        } finally {
+            shard.writeLock.unlock();
         }
         if (db == null) {
             logger.debug("Could not find item '{}' in rrd4j database", itemName);
@@ -361,12 +405,17 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias) {
+    /**
+     * Opens or creates the database of an item. Callers must hold the write lock of the item's {@link WriterShard},
+     * so that a database is never created twice.
+     */
+    protected @Nullable RrdDb getDB(String alias) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
             Builder builder = RrdDb.getBuilder();
             builder.setPool(DATABASE_POOL);
+            builder.setBackendFactory(backendFactory);
 
             if (Files.exists(path)) {
                 // recreate the RrdDb instance from the file
@@ -487,12 +536,32 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Activate
     protected void activate(final Map<String, Object> config) {
         modified(config);
+        for (WriterShard shard : shards) {
+            flushJobs.add(scheduler.scheduleWithFixedDelay(shard::flush, FLUSH_INTERVAL, FLUSH_INTERVAL,
+                    TimeUnit.SECONDS));
+        }
+        if (warmup) {
+            scheduler.execute(this::warmup);
+        }
+    }
+
+    @Deactivate
+    protected void deactivate() {
+        flushJobs.forEach(job -> job.cancel(false));
+        flushJobs.clear();
+        for (WriterShard shard : shards) {
+            shard.flush();
+        }
+        scheduler.shutdown();
     }
 
     @Modified
     protected void modified(final Map<String, Object> config) {
         // clean existing definitions
         rrdDefs.clear();
+        RrdBackendFactory factory = RrdBackendFactory.getDefaultFactory();
+        int poolCapacity = DEFAULT_POOL_CAPACITY;
+        warmup = false;
 
         // add default configurations
 
@@ -535,6 +604,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         if (config.isEmpty()) {
             logger.debug("using default configuration only");
+            applyBackendConfig(factory, poolCapacity);
             return;
         }
 
@@ -547,6 +617,28 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 continue;
             }
 
+            String option = String.valueOf(config.get(key)).trim();
+            if (CONFIG_BACKEND.equals(key)) {
+                // rrd4j's NIO backend uses memory mapped files
+                String backend = "mmap".equalsIgnoreCase(option) ? "NIO" : option.toUpperCase(Locale.ROOT);
+                try {
+                    factory = RrdBackendFactory.getFactory(backend);
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Ignoring unknown rrd4j backend '{}', using '{}'", option, factory.getName());
+                }
+                continue;
+            } else if (CONFIG_POOL_CAPACITY.equals(key)) {
+                try {
+                    poolCapacity = Integer.parseInt(option);
+                } catch (NumberFormatException e) {
+                    logger.warn("Ignoring invalid rrd4j pool capacity '{}'", option);
+                }
+                continue;
+            } else if (CONFIG_WARMUP.equals(key)) {
+                warmup = Boolean.parseBoolean(option);
+                continue;
+            }
+
             String[] subkeys = key.split("\\.");
             if (subkeys.length != 2) {
                 logger.debug("config '{}' should have the format 'name.configkey'", key);
@@ -596,6 +688,110 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 rrdDefs.remove(rrdDef.name);
             }
         }
+        applyBackendConfig(factory, poolCapacity);
+    }
+
+    private void applyBackendConfig(RrdBackendFactory factory, int poolCapacity) {
+        backendFactory = factory;
+        if (poolCapacity > 0) {
+            DATABASE_POOL.setCapacity(poolCapacity);
+        } else {
+            logger.warn("Ignoring rrd4j pool capacity {}, it must be positive", poolCapacity);
+        }
+        logger.debug("Using rrd4j backend '{}' with a pool capacity of {}", factory.getName(),
+                DATABASE_POOL.getCapacity());
+    }
+
+    /**
+     * Reads all archives of all existing databases, so their files are cached by the operating system before the
+     * first chart or query needs them. The databases are closed again, so they do not take up the pool capacity.
+     */
+    private void warmup() {
+        List<String> names;
+        try (Stream<Path> files = Files.list(DB_FOLDER)) {
+            names = files.map(file -> file.getFileName().toString()).filter(file -> file.endsWith(".rrd"))
+                    .map(file -> file.substring(0, file.length() - 4)).toList();
+        } catch (IOException e) {
+            logger.debug("Could not list rrd4j databases for warmup: {}", e.getMessage());
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int warmedUp = 0;
+        for (String name : names) {
+            if (scheduler.isShutdown()) {
+                // the service has been deactivated
+                break;
+            }
+            WriterShard shard = getShard(name);
+            shard.writeLock.lock();
+            try {
+                RrdDb db = getDB(name);
+                if (db != null) {
+                    try {
+                        for (int arcIndex = 0; arcIndex < db.getArcCount(); arcIndex++) {
+                            Archive archive = db.getArchive(arcIndex);
+                            for (int dsIndex = 0; dsIndex < db.getDsCount(); dsIndex++) {
+                                archive.getRobin(dsIndex).getValues();
+                            }
+                        }
+                        warmedUp++;
+                    } finally {
+                        db.close();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Could not warm up rrd4j database '{}': {}", name, e.getMessage());
+            } finally {
+                shard.writeLock.unlock();
+            }
+        }
+        logger.debug("Warmed up {} rrd4j databases in {} ms", warmedUp, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Buffers the samples of a subset of the databases. Adding a sample only takes the short lock of the buffer,
+     * writing is serialized per shard by the {@link #writeLock}, so samples of a database are written in order.
+     */
+    private class WriterShard {
+        private final ReentrantLock writeLock = new ReentrantLock();
+        private Map<String, SortedMap<Long, Double>> pending = new HashMap<>();
+
+        private synchronized void add(String name, long time, double value) {
+            // a later value within the same second replaces the earlier one
+            pending.computeIfAbsent(name, n -> new TreeMap<>()).put(time, value);
+        }
+
+        private synchronized Map<String, SortedMap<Long, Double>> takeAll() {
+            Map<String, SortedMap<Long, Double>> samples = pending;
+            pending = new HashMap<>();
+            return samples;
+        }
+
+        private synchronized @Nullable SortedMap<Long, Double> take(String name) {
+            return pending.remove(name);
+        }
+
+        private void flush() {
+            writeLock.lock();
+            try {
+                takeAll().forEach(RRD4jPersistenceService.this::writeSamples);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        private void flush(String name) {
+            writeLock.lock();
+            try {
+                SortedMap<Long, Double> samples = take(name);
+                if (samples != null) {
+                    writeSamples(name, samples);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
     }
 
     private static class RrdArchiveDef {
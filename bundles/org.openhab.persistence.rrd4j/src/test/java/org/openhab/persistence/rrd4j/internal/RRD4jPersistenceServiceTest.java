@@ -0,0 +1,145 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.rrd4j.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.items.ItemNotFoundException;
+import org.openhab.core.items.ItemRegistry;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.FilterCriteria.Ordering;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.types.State;
+
+/**
+ * Tests the buffered writing of the {@link RRD4jPersistenceService}.
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@NonNullByDefault
+public class RRD4jPersistenceServiceTest {
+
+    private static @TempDir @NonNullByDefault({}) Path userData;
+
+    private @Mock @NonNullByDefault({}) ItemRegistry itemRegistry;
+
+    private final List<RRD4jPersistenceService> services = new ArrayList<>();
+
+    @BeforeAll
+    public static void setUpUserData() {
+        // the database folder is resolved once when the service class is loaded
+        System.setProperty("openhab.userdata", userData.toString());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        services.forEach(RRD4jPersistenceService::deactivate);
+    }
+
+    @Test
+    public void storedValueIsBufferedUntilQueried() throws ItemNotFoundException {
+        NumberItem item = createItem("BufferedItem", 5);
+        RRD4jPersistenceService service = createService();
+
+        service.store(item);
+        assertThat(Files.exists(RRD4jPersistenceService.getDatabasePath(item.getName())), is(false));
+
+        assertThat(queryLastState(service, item), is(new DecimalType(5)));
+        assertThat(Files.exists(RRD4jPersistenceService.getDatabasePath(item.getName())), is(true));
+    }
+
+    @Test
+    public void latestOfSeveralBufferedValuesIsStored() throws ItemNotFoundException {
+        NumberItem item = createItem("CoalescedItem", 1);
+        RRD4jPersistenceService service = createService();
+
+        service.store(item);
+        item.setState(new DecimalType(2));
+        service.store(item);
+        item.setState(new DecimalType(3));
+        service.store(item);
+
+        assertThat(queryLastState(service, item), is(new DecimalType(3)));
+    }
+
+    @Test
+    public void bufferedValuesOfItemAreWrittenOnFlush() throws ItemNotFoundException {
+        NumberItem item = createItem("FlushedItem", 4);
+        NumberItem otherItem = createItem("OtherItem", 6);
+        RRD4jPersistenceService service = createService();
+
+        service.store(item);
+        service.store(otherItem);
+        service.flush(item.getName());
+
+        assertThat(Files.exists(RRD4jPersistenceService.getDatabasePath(item.getName())), is(true));
+        assertThat(Files.exists(RRD4jPersistenceService.getDatabasePath(otherItem.getName())), is(false));
+    }
+
+    @Test
+    public void bufferedValuesAreWrittenOnDeactivation() throws ItemNotFoundException {
+        NumberItem item = createItem("DeactivatedItem", 7);
+        RRD4jPersistenceService service = createService();
+
+        service.store(item);
+        service.deactivate();
+        services.remove(service);
+        assertThat(Files.exists(RRD4jPersistenceService.getDatabasePath(item.getName())), is(true));
+
+        assertThat(queryLastState(createService(), item), is(new DecimalType(7)));
+    }
+
+    private NumberItem createItem(String name, int value) throws ItemNotFoundException {
+        NumberItem item = new NumberItem(name);
+        item.setState(new DecimalType(value));
+        when(itemRegistry.getItem(name)).thenReturn(item);
+        return item;
+    }
+
+    private RRD4jPersistenceService createService() {
+        RRD4jPersistenceService service = new RRD4jPersistenceService(itemRegistry);
+        service.activate(Map.of());
+        services.add(service);
+        return service;
+    }
+
+    private State queryLastState(RRD4jPersistenceService service, NumberItem item) {
+        FilterCriteria filter = new FilterCriteria();
+        filter.setItemName(item.getName());
+        filter.setOrdering(Ordering.DESCENDING);
+        filter.setPageSize(1);
+        List<HistoricItem> result = new ArrayList<>();
+        service.query(filter).forEach(result::add);
+        assertThat(result.size(), is(1));
+        return result.get(0).getState();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.jsonpath.internal;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Caches compiled {@link JsonPath} expressions and, for a short time, parsed JSON documents.
+ *
+ * Things often extract several channels from the same payload, one transformation per channel, within a few
+ * milliseconds. Caching the parsed document lets them share a single parse. Parsed documents are only read, never
+ * modified, so they can be shared between threads.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class JSonPathCache {
+
+    static final int MAX_PATHS = 256;
+    static final int MAX_DOCUMENTS = 16;
+    static final long DOCUMENT_TTL_MS = 2000;
+
+    private final Map<String, JsonPath> paths = Collections.synchronizedMap(new LruMap<>(MAX_PATHS));
+    private final Map<String, ParsedDocument> documents = Collections.synchronizedMap(new LruMap<>(MAX_DOCUMENTS));
+
+    /**
+     * @throws com.jayway.jsonpath.InvalidPathException if the expression is invalid, invalid expressions are not cached
+     */
+    JsonPath getPath(String jsonPathExpression) {
+        JsonPath path = paths.get(jsonPathExpression);
+        if (path == null) {
+            path = JsonPath.compile(jsonPathExpression);
+            paths.put(jsonPathExpression, path);
+        }
+        return path;
+    }
+
+    /**
+     * Returns the parsed document, parsing it unless the same content has been parsed recently.
+     *
+     * @throws com.jayway.jsonpath.InvalidJsonException if the source is not valid JSON
+     */
+    Object getDocument(String source) {
+        long now = System.currentTimeMillis();
+        ParsedDocument document = documents.get(source);
+        if (document == null || document.expiresAt < now) {
+            document = new ParsedDocument(Configuration.defaultConfiguration().jsonProvider().parse(source),
+                    now + DOCUMENT_TTL_MS);
+            documents.put(source, document);
+        }
+        return document.json;
+    }
+
+    private static class ParsedDocument {
+        private final Object json;
+        private final long expiresAt;
+
+        private ParsedDocument(Object json, long expiresAt) {
+            this.json = json;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class LruMap<V> extends LinkedHashMap<String, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        private LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -26,7 +26,6 @@ import org.slf4j.LoggerFactory;
 
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
 /**
@@ -43,9 +42,14 @@ public class JSonPathTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final JSonPathCache cache = new JSonPathCache();
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
+     * Compiled expressions are cached, as well as the parsed <code>source</code> for a short time, so that several
+     * expressions applied to the same JSON only parse it once.
+     *
      * @param function JsonPath expression
      * @param source String which contains JSON
      * @throws TransformationException If the JsonPath expression is invalid, an {@link InvalidPathException} is thrown,
@@ -60,7 +64,7 @@ public class JSonPathTransformationService implements TransformationService {
         logger.debug("about to transform '{}' by the function '{}'", source, jsonPathExpression);
 
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = cache.getPath(jsonPathExpression).read(cache.getDocument(source));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
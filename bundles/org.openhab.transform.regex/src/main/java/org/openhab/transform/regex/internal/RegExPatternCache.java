@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.regex.internal;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Bounded cache of compiled regular expressions, evicting the least recently used expression when full.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class RegExPatternCache {
+
+    static final int MAX_ENTRIES = 256;
+
+    private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
+
+    private final Map<String, CompiledRegEx> cache = Collections
+            .synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CompiledRegEx> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Returns the compiled form of an expression, compiling it if it is not cached yet.
+     *
+     * @param regExpression either a regular expression or a substitution of the form {@code s/regex/substitution/g}
+     * @return the compiled expression
+     * @throws java.util.regex.PatternSyntaxException if the expression is invalid, invalid expressions are not cached
+     */
+    CompiledRegEx get(String regExpression) {
+        CompiledRegEx compiled = cache.get(regExpression);
+        if (compiled != null) {
+            hits.incrementAndGet();
+            return compiled;
+        }
+        misses.incrementAndGet();
+        compiled = compile(regExpression);
+        cache.put(regExpression, compiled);
+        return compiled;
+    }
+
+    long getHitCount() {
+        return hits.get();
+    }
+
+    long getMissCount() {
+        return misses.get();
+    }
+
+    int size() {
+        return cache.size();
+    }
+
+    private static CompiledRegEx compile(String regExpression) {
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            return new CompiledRegEx(Pattern.compile(substMatcher.group(1)), substMatcher.group(2),
+                    "g".equals(substMatcher.group(3)));
+        }
+        return new CompiledRegEx(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null, false);
+    }
+
+    /**
+     * A compiled expression. For the substitution form {@link #substitution} is set and {@link #pattern} is the
+     * pattern to replace, otherwise {@link #pattern} has to match the whole input.
+     */
+    static class CompiledRegEx {
+        final Pattern pattern;
+        final @Nullable String substitution;
+        final boolean global;
+
+        private CompiledRegEx(Pattern pattern, @Nullable String substitution, boolean global) {
+            this.pattern = pattern;
+            this.substitution = substitution;
+            this.global = global;
+        }
+    }
+}
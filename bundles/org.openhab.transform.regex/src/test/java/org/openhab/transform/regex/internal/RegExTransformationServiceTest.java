@@ -75,4 +75,27 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_compiledExpressionIsCached() throws TransformationException {
+        // method under test
+        processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /g", "X12,Y54");
+        String transformedResponse = processor.transform("s/([A-Z]+)([0-9]+),*/var$1=$2 /g", "Z7");
+
+        // Asserts
+        assertEquals("varZ=7 ", transformedResponse);
+        assertEquals(1, processor.getPatternCache().getMissCount());
+        assertEquals(1, processor.getPatternCache().getHitCount());
+    }
+
+    @Test
+    public void testTransformByRegex_cacheIsBounded() throws TransformationException {
+        // method under test
+        for (int i = 0; i <= RegExPatternCache.MAX_ENTRIES; i++) {
+            processor.transform("(" + i + ")", Integer.toString(i));
+        }
+
+        // Asserts
+        assertEquals(RegExPatternCache.MAX_ENTRIES, processor.getPatternCache().size());
+    }
 }
@@ -13,9 +13,13 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
@@ -27,7 +31,7 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
 
     @BeforeEach
     public void init() {
-        processor = new XsltTransformationService();
+        processor = new XsltTransformationService(mock(WatchService.class));
     }
 
     @Test
@@ -38,4 +42,16 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testTransformByXSLT_afterStylesheetChange() throws TransformationException {
+        processor.transform("http/google_weather.xsl", source);
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "google_weather.xsl"));
+
+        // method under test
+        String transformedResponse = processor.transform("http/google_weather.xsl", source);
+
+        // Asserts
+        assertEquals("8", transformedResponse);
+    }
 }
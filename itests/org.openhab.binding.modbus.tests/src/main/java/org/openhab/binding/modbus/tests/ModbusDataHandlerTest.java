@@ -14,6 +14,7 @@ package org.openhab.binding.modbus.tests;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +30,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -103,6 +105,17 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         }
     }
 
+    private final class CountingTransformation implements TransformationService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public String transform(String function, String source) throws TransformationException {
+            invocations.incrementAndGet();
+            return source;
+        }
+    }
+
     private static final String HOST = "thisishost";
     private static final int PORT = 44;
 
@@ -506,6 +519,91 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         return dataHandler;
     }
 
+    @SuppressWarnings({ "null" })
+    private ModbusDataThingHandler createSkipUnchangedDataHandler(boolean skipUnchangedData,
+            ModbusReadRequestBlueprint request) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "0");
+        dataConfig.put("readTransform", "COUNT(x)");
+        dataConfig.put("readValueType", "int16");
+        dataConfig.put("skipUnchangedData", skipUnchangedData);
+        // large enough so that unchanged data is not refreshed during the test
+        dataConfig.put("updateUnchangedValuesEveryMillis", 600000L);
+
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        return dataHandler;
+    }
+
+    @Test
+    public void testSkipUnchangedDataSkipsUnchangedRegisters() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createSkipUnchangedDataHandler(true, request);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new byte[] { 0, 5, 0, 1, 0, 2 })));
+        int afterFirstPoll = transformation.invocations.get();
+        assertThat(afterFirstPoll, is(greaterThan(0)));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+
+        // same value register, other registers of the poll changed -> skipped
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new byte[] { 0, 5, 0, 7, 0, 8 })));
+        assertThat(transformation.invocations.get(), is(equalTo(afterFirstPoll)));
+    }
+
+    @Test
+    public void testSkipUnchangedDataForwardsChangedRegisters() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createSkipUnchangedDataHandler(true, request);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new byte[] { 0, 5, 0, 1, 0, 2 })));
+        int afterFirstPoll = transformation.invocations.get();
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new byte[] { 0, 6, 0, 1, 0, 2 })));
+        assertThat(transformation.invocations.get(), is(greaterThan(afterFirstPoll)));
+        waitForAssert(() -> {
+            List<State> updates = getStateUpdates(getItemName(new ChannelUID(dataHandler.getThing().getUID(),
+                    CHANNEL_NUMBER)));
+            assertNotNull(updates);
+            assertThat(updates, is(equalTo(List.of(new DecimalType(5), new DecimalType(6)))));
+        });
+    }
+
+    @Test
+    public void testUnchangedRegistersProcessedWithoutSkipUnchangedData() {
+        CountingTransformation transformation = new CountingTransformation();
+        mockTransformation("COUNT", transformation);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        ModbusDataThingHandler dataHandler = createSkipUnchangedDataHandler(false, request);
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new byte[] { 0, 5, 0, 1, 0, 2 })));
+        int afterFirstPoll = transformation.invocations.get();
+        assertThat(afterFirstPoll, is(greaterThan(0)));
+
+        dataHandler.onReadResult(new AsyncModbusReadResult(request,
+                new ModbusRegisterArray(new byte[] { 0, 5, 0, 1, 0, 2 })));
+        assertThat(transformation.invocations.get(), is(equalTo(2 * afterFirstPoll)));
+    }
+
     private ModbusDataThingHandler testWriteHandlingGeneric(String start, String transform, ValueType valueType,
             String writeType, ModbusWriteFunctionCode successFC, String channel, Command command, Exception error,
             BundleContext context) {